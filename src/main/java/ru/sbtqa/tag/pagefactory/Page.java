@@ -1,18 +1,19 @@
 package ru.sbtqa.tag.pagefactory;
 
+import cucumber.api.DataTable;
 import java.io.File;
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.apache.commons.lang3.exception.ExceptionUtils;
-import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.commons.lang3.reflect.MethodUtils;
 import org.junit.Assert;
 import org.openqa.selenium.By;
@@ -20,20 +21,23 @@ import org.openqa.selenium.InvalidElementStateException;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.Keys;
 import org.openqa.selenium.NoSuchElementException;
-import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.Select;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.sbtqa.tag.allurehelper.ParamsHelper;
-import ru.sbtqa.tag.datajack.Stash;
 import ru.sbtqa.tag.pagefactory.annotations.ActionTitle;
 import ru.sbtqa.tag.pagefactory.annotations.ActionTitles;
-import ru.sbtqa.tag.pagefactory.annotations.ElementTitle;
 import ru.sbtqa.tag.pagefactory.annotations.PageEntry;
 import ru.sbtqa.tag.pagefactory.annotations.RedirectsTo;
 import ru.sbtqa.tag.pagefactory.annotations.ValidationRule;
+import ru.sbtqa.tag.pagefactory.descriptor.ActionInvoker;
+import ru.sbtqa.tag.pagefactory.descriptor.ActionTable;
+import ru.sbtqa.tag.pagefactory.descriptor.ElementAccessor;
+import ru.sbtqa.tag.pagefactory.descriptor.PageDescriptor;
+import ru.sbtqa.tag.pagefactory.descriptor.PageRegistry;
 import ru.sbtqa.tag.pagefactory.drivers.TagMobileDriver;
 import ru.sbtqa.tag.pagefactory.exceptions.ElementDescriptionException;
 import ru.sbtqa.tag.pagefactory.exceptions.ElementNotFoundException;
@@ -44,14 +48,11 @@ import ru.sbtqa.tag.pagefactory.exceptions.WaitException;
 import ru.sbtqa.tag.pagefactory.extensions.DriverExtension;
 import ru.sbtqa.tag.pagefactory.extensions.WebExtension;
 import ru.sbtqa.tag.pagefactory.support.AdbConsole;
+import ru.sbtqa.tag.pagefactory.support.AdbShell;
 import ru.sbtqa.tag.pagefactory.support.Environment;
 import ru.sbtqa.tag.qautils.errors.AutotestError;
-import ru.sbtqa.tag.qautils.i18n.I18N;
-import ru.sbtqa.tag.qautils.i18n.I18NRuntimeException;
 import ru.sbtqa.tag.qautils.properties.Props;
-import ru.sbtqa.tag.qautils.reflect.FieldUtilsExt;
 import ru.sbtqa.tag.qautils.strategies.MatchStrategy;
-import ru.yandex.qatools.htmlelements.annotations.Name;
 import ru.yandex.qatools.htmlelements.element.CheckBox;
 import ru.yandex.qatools.htmlelements.element.HtmlElement;
 
@@ -62,8 +63,13 @@ public abstract class Page {
 
     private static final Logger LOG = LoggerFactory.getLogger(Page.class);
 
-    private static boolean isUsedBlock = false;
-    private static WebElement usedBlock = null;
+    private static final Object[] NO_PARAMETERS = new Object[0];
+    private static final boolean FILL_NATIVE = Boolean.valueOf(Props.get("page.fill.native", "false"));
+    private static final boolean SELECT_NATIVE = Boolean.valueOf(Props.get("page.select.native", "false"));
+
+    private final Map<WebElement, String> elementTitles = new IdentityHashMap<>();
+    private boolean isElementTitlesIndexed = false;
+    private Map<Object, Class<? extends Page>> elementRedirects;
 
     /**
      * Find element with specified title annotation, and fill it with given text
@@ -84,11 +90,12 @@ public abstract class Page {
             webElement.clear();
         }
 
-        if (PageFactory.getEnvironment() == Environment.MOBILE && TagMobileDriver.getAppiumClickAdb()) {
-            // set ADBKeyBoard as default
-            AdbConsole.execute("ime set com.android.adbkeyboard/.AdbIME");
+        if (PageFactory.getEnvironment() == Environment.MOBILE && TagMobileDriver.getAppiumFillAdb()
+                && TagMobileDriver.activateAdbKeyboard()) {
             // send broadcast intent via adb
-            AdbConsole.execute(String.format("am broadcast -a ADB_INPUT_TEXT --es msg '%s'", text));
+            if (!AdbConsole.execute("am broadcast -a ADB_INPUT_TEXT --es msg " + AdbShell.quote(text))) {
+                TagMobileDriver.resetActiveIme();
+            }
         } else {
             webElement.sendKeys(text);
         }
@@ -114,6 +121,48 @@ public abstract class Page {
         ParamsHelper.addParam("\"%s\" is filled with text \"%s\"", new String[]{getElementTitle(webElement), text});
     }
 
+    /**
+     * Fill several fields by titles with values given by table rows
+     * {@code | element title | text |}. All elements are being resolved first,
+     * then their values are set by one script call that fires input and
+     * change events. Elements the script can't fill, mobile elements, and all
+     * elements if {@code page.fill.native} is set, are filled by
+     * {@link #fillField(WebElement, String)}. Every field is added to allure
+     * report
+     *
+     * @param dataTable table of element titles and texts
+     * @throws ru.sbtqa.tag.pagefactory.exceptions.PageException if page was not
+     * initialized, or required element couldn't be found
+     */
+    @ActionTitle("ru.sbtqa.tag.pagefactory.fill.fields")
+    public void fillFields(DataTable dataTable) throws PageException {
+        List<String> titles = new ArrayList<>();
+        List<String> texts = new ArrayList<>();
+        List<WebElement> webElements = new ArrayList<>();
+        for (List<String> row : dataTable.raw()) {
+            if (row.size() < 2) {
+                throw new ElementDescriptionException("Row " + row + " should contain element title and text");
+            }
+            titles.add(row.get(0));
+            texts.add(row.get(1));
+            webElements.add(getElementByTitle(row.get(0)));
+        }
+
+        List<Boolean> filled = PageFactory.getEnvironment() == Environment.WEB && !FILL_NATIVE
+                ? WebExtension.fillFields(webElements, texts)
+                : Collections.nCopies(webElements.size(), false);
+
+        for (int i = 0; i < webElements.size(); i++) {
+            if (filled.get(i)) {
+                ParamsHelper.addParam("\"%s\" is filled with text \"%s\"", new String[]{titles.get(i), texts.get(i)});
+            } else if (PageFactory.getEnvironment() == Environment.MOBILE) {
+                fillField(titles.get(i), texts.get(i));
+            } else {
+                fillField(webElements.get(i), texts.get(i));
+            }
+        }
+    }
+
     /**
      * Click the specified link element
      *
@@ -280,8 +329,31 @@ public abstract class Page {
      * @param strategy the strategy to match value. See {@link MatchStrategy}
      * for available values
      */
-    @SuppressWarnings("unchecked")
     public void select(WebElement webElement, String option, MatchStrategy strategy) {
+        boolean isSelectionMade = false;
+        boolean isSelectedByScript = false;
+        if (PageFactory.getEnvironment() == Environment.WEB && !SELECT_NATIVE) {
+            try {
+                String selected = WebExtension.selectOptionByText(webElement, option, strategy == MatchStrategy.CONTAINS);
+                isSelectionMade = selected != null;
+                isSelectedByScript = true;
+                LOG.debug("Option '{}' is selected by '{}'", selected, option);
+            } catch (WebDriverException e) {
+                LOG.debug("Failed to select option '{}' by script. Selecting natively", option, e);
+            }
+        }
+        if (!isSelectedByScript) {
+            isSelectionMade = selectNative(webElement, option, strategy);
+        }
+
+        if (!isSelectionMade) {
+            throw new AutotestError("There is no element '" + option + "' in " + getElementTitle(webElement));
+        }
+        ParamsHelper.addParam("In the select \"%s\" is selected option \"%s\"", new String[]{getElementTitle(webElement), option});
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean selectNative(WebElement webElement, String option, MatchStrategy strategy) {
         String jsString = ""
                 + "var content=[]; "
                 + "var options = arguments[0].getElementsByTagName('option'); "
@@ -292,11 +364,10 @@ public abstract class Page {
         List<String> options = (ArrayList<String>) ((JavascriptExecutor) PageFactory.getDriver()).
                 executeScript(jsString, webElement);
 
-        boolean isSelectionMade = false;
+        String needOptionText = removeSpaces(option);
         for (int index = 0; index < options.size(); index++) {
             boolean isCurrentOption = false;
-            String optionText = options.get(index).replaceAll("\\s+", "");
-            String needOptionText = option.replaceAll("\\s+", "");
+            String optionText = removeSpaces(options.get(index));
 
             if (strategy.equals(MatchStrategy.CONTAINS)) {
                 isCurrentOption = optionText.contains(needOptionText);
@@ -307,15 +378,10 @@ public abstract class Page {
             if (isCurrentOption) {
                 Select select = new Select(webElement);
                 select.selectByIndex(index);
-                isSelectionMade = true;
-                break;
+                return true;
             }
         }
-
-        if (!isSelectionMade) {
-            throw new AutotestError("There is no element '" + option + "' in " + getElementTitle(webElement));
-        }
-        ParamsHelper.addParam("In the select \"%s\" is selected option \"%s\"", new String[]{getElementTitle(webElement), option});
+        return false;
     }
 
     /**
@@ -352,7 +418,7 @@ public abstract class Page {
      */
     @ActionTitle("ru.sbtqa.tag.pagefactory.text.appears.on.page")
     public void assertTextAppears(String text) throws WaitException {
-        WebExtension.waitForTextPresenceInPageSource(text, true);
+        WebExtension.waitForTextPresence(text, true, PageFactory.getTimeOut());
     }
 
     /**
@@ -363,15 +429,16 @@ public abstract class Page {
      */
     @ActionTitle("ru.sbtqa.tag.pagefactory.text.absent.on.page")
     public void assertTextIsNotPresent(String text) {
-        WebExtension.waitForTextPresenceInPageSource(text, false);
+        WebExtension.waitForTextPresence(text, false, PageFactory.getTimeOut());
     }
 
     /**
      * Wait for a new browser window, then wait for a specific text inside the
-     * appeared window List of previously opened windows is being saved before
-     * each click, so if modal window appears without click, this method won't
-     * catch it. Text is being waited by {@link #assertTextAppears}, so it will
-     * be space-trimmed as well
+     * appeared window. List of previously opened windows is saved on the first
+     * click of the session and refreshed whenever a new window is found or a
+     * step switches windows, so windows opened and left unchecked in between
+     * could be taken for the modal one. Text is being waited by
+     * {@link #assertTextAppears}, so it will be space-trimmed as well
      *
      * @param text text that will be searched inside of the window
      * @throws ru.sbtqa.tag.pagefactory.exceptions.WaitException if
@@ -379,7 +446,8 @@ public abstract class Page {
     @ActionTitle("ru.sbtqa.tag.pagefactory.modal.window.with.text.appears")
     public void assertModalWindowAppears(String text) throws WaitException {
         try {
-            String popupHandle = WebExtension.findNewWindowHandle((Set<String>) Stash.getValue("beforeClickHandles"));
+            Set<String> handles = SessionContext.getCurrent().getWindowHandles();
+            String popupHandle = WebExtension.findNewWindowHandle(handles != null ? handles : WebExtension.captureWindowHandles());
             if (null != popupHandle && !popupHandle.isEmpty()) {
                 PageFactory.getWebDriver().switchTo().window(popupHandle);
             }
@@ -497,6 +565,110 @@ public abstract class Page {
 
     }
 
+    /**
+     * Check values of several elements given by table rows
+     * {@code | element title | text |} or
+     * {@code | element title | text | match strategy |}. Values of all
+     * elements are read by one script call and compared the same way as in
+     * {@link #checkValue(String, WebElement, MatchStrategy)}. Exact match is
+     * used by default. All mismatches are reported together
+     *
+     * @param dataTable table of element titles, expected texts and optional
+     * match strategies
+     * @throws ru.sbtqa.tag.pagefactory.exceptions.PageException if page was not
+     * initialized, or required element couldn't be found
+     */
+    @ActionTitle("ru.sbtqa.tag.pagefactory.check.values")
+    public void checkValues(DataTable dataTable) throws PageException {
+        List<List<String>> rows = dataTable.raw();
+        List<WebElement> webElements = new ArrayList<>(rows.size());
+        for (List<String> row : rows) {
+            if (row.size() < 2) {
+                throw new ElementDescriptionException("Row " + row + " should contain element title and text");
+            }
+            webElements.add(getElementByTitle(row.get(0)));
+        }
+
+        List<Map<String, String>> values = PageFactory.getEnvironment() == Environment.WEB
+                ? WebExtension.getElementValues(webElements)
+                : readElementValues(webElements);
+
+        StringBuilder mismatches = new StringBuilder();
+        for (int i = 0; i < rows.size(); i++) {
+            List<String> row = rows.get(i);
+            MatchStrategy strategy = row.size() > 2 && !row.get(2).trim().isEmpty()
+                    ? MatchStrategy.valueOf(row.get(2).trim().toUpperCase()) : MatchStrategy.EXACT;
+            String actual = getComparedValue(values.get(i), row.get(1), strategy);
+            if (!isMatched(actual, row.get(1), strategy)) {
+                mismatches.append("\n'").append(row.get(0)).append("': expected '").append(row.get(1))
+                        .append("', actual '").append(actual).append("'");
+            }
+        }
+        if (mismatches.length() > 0) {
+            throw new AutotestError("Values of elements don't match expected texts:" + mismatches);
+        }
+    }
+
+    private static List<Map<String, String>> readElementValues(List<WebElement> webElements) {
+        List<Map<String, String>> values = new ArrayList<>(webElements.size());
+        for (WebElement webElement : webElements) {
+            Map<String, String> elementValues = new HashMap<>();
+            elementValues.put("tag", webElement.getTagName());
+            elementValues.put("value", webElement.getAttribute("value"));
+            elementValues.put("title", webElement.getAttribute("title"));
+            elementValues.put("text", webElement.getText());
+            values.add(elementValues);
+        }
+        return values;
+    }
+
+    /**
+     * Choose element value to compare: value of input, title of select if it
+     * matches, otherwise text
+     */
+    private static String getComparedValue(Map<String, String> elementValues, String text, MatchStrategy strategy) {
+        String value;
+        switch (String.valueOf(elementValues.get("tag"))) {
+            case "input":
+                value = elementValues.get("value");
+                break;
+            case "select":
+                value = elementValues.get("title");
+                if (value == null || value.isEmpty() || !isMatched(value, text, strategy)) {
+                    value = elementValues.get("text");
+                }
+                break;
+            default:
+                value = elementValues.get("text");
+                break;
+        }
+        return value == null ? "" : value;
+    }
+
+    private static boolean isMatched(String value, String text, MatchStrategy strategy) {
+        String actual = removeSpaces(value);
+        String expected = removeSpaces(text);
+        return strategy == MatchStrategy.CONTAINS ? actual.contains(expected) : actual.equals(expected);
+    }
+
+    /**
+     * Remove whitespace characters matched by regular expression {@code \s}
+     * without regular expression engine
+     */
+    private static String removeSpaces(String value) {
+        StringBuilder result = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean isSpace = c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+            if (isSpace && result == null) {
+                result = new StringBuilder(value.length()).append(value, 0, i);
+            } else if (!isSpace && result != null) {
+                result.append(c);
+            }
+        }
+        return result == null ? value : result.toString();
+    }
+
     /**
      * Find element by given title, and check whether it is not empty See
      * {@link #checkFieldIsNotEmpty(WebElement)} for details
@@ -693,16 +865,12 @@ public abstract class Page {
      * @throws java.util.NoSuchElementException if couldn't find any block
      */
     public HtmlElement findBlock(String blockPath) throws NoSuchElementException {
-        try {
-            List<HtmlElement> blocks = Core.findBlocks(blockPath, this, true);
-            if (blocks.isEmpty()) {
-                throw new java.util.NoSuchElementException(String.format("Couldn't find block '%s' on a page '%s'",
-                        blockPath, this.getTitle()));
-            }
-            return blocks.get(0);
-        } catch (IllegalAccessException ex) {
-            throw new FactoryRuntimeException(String.format("Internal error during attempt to find block '%s'", blockPath), ex);
+        List<HtmlElement> blocks = Core.findBlocks(blockPath, this, true);
+        if (blocks.isEmpty()) {
+            throw new java.util.NoSuchElementException(String.format("Couldn't find block '%s' on a page '%s'",
+                    blockPath, this.getTitle()));
         }
+        return blocks.get(0);
     }
 
     /**
@@ -713,11 +881,7 @@ public abstract class Page {
      * @return list of objects that were found by specified path
      */
     public List<HtmlElement> findBlocks(String blockPath) throws NoSuchElementException {
-        try {
-            return Core.findBlocks(blockPath, this, false);
-        } catch (IllegalAccessException ex) {
-            throw new FactoryRuntimeException(String.format("Internal error during attempt to find a block '%s'", blockPath), ex);
-        }
+        return Core.findBlocks(blockPath, this, false);
     }
 
     /**
@@ -747,37 +911,26 @@ public abstract class Page {
      */
     public void executeMethodByTitleInBlock(String blockPath, String actionTitle, Object... parameters) throws NoSuchMethodException {
         HtmlElement block = findBlock(blockPath);
-        Method[] methods = block.getClass().getMethods();
-        for (Method method : methods) {
-            if (Core.isRequiredAction(method, actionTitle)) {
-                try {
-                    method.setAccessible(true);
-                    if (parameters == null || parameters.length == 0) {
-                        MethodUtils.invokeMethod(block, method.getName());
-                    } else {
-                        MethodUtils.invokeMethod(block, method.getName(), parameters);
-                    }
-                    return;
-                } catch (IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
-                    throw new FactoryRuntimeException(String.format("Failed to execute method '%s' in the following block: '%s'",
-                            actionTitle, blockPath), e);
-                }
+        ActionTable blockActions = PageRegistry.getDescriptor(block.getClass()).getActionTable();
+        if (!blockActions.getActions(actionTitle).isEmpty()) {
+            try {
+                Core.invokeAction(block, blockActions, actionTitle, parameters);
+                return;
+            } catch (IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
+                throw new FactoryRuntimeException(String.format("Failed to execute method '%s' in the following block: '%s'",
+                        actionTitle, blockPath), e);
             }
         }
 
-        isUsedBlock = true;
-        usedBlock = block;
-        List<Method> methodList = Core.getDeclaredMethods(this.getClass());
-        for (Method method : methodList) {
-            if (Core.isRequiredAction(method, actionTitle)) {
-                try {
-                    method.setAccessible(true);
-                    MethodUtils.invokeMethod(this, method.getName(), parameters);
-                    return;
-                } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-                    throw new FactoryRuntimeException(String.format("Failed to execute method '%s' in the following block: '%s'",
-                            actionTitle, blockPath), e);
-                }
+        SessionContext.getCurrent().setUsedBlock(block);
+        ActionTable pageActions = PageRegistry.getDescriptor(this.getClass()).getActionTable();
+        if (!pageActions.getActions(actionTitle).isEmpty()) {
+            try {
+                Core.invokeAction(this, pageActions, actionTitle, parameters);
+                return;
+            } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+                throw new FactoryRuntimeException(String.format("Failed to execute method '%s' in the following block: '%s'",
+                        actionTitle, blockPath), e);
             }
         }
 
@@ -803,20 +956,30 @@ public abstract class Page {
      * @return title of the given element
      */
     public String getElementTitle(WebElement element) {
-        for (Map.Entry<Field, String> entry : PageFactory.getPageRepository().get(this.getClass()).entrySet()) {
-            try {
-                if (Core.getElementByField(this, entry.getKey()) == element) {
-                    ElementTitle elementTitle = entry.getKey().getAnnotation(ElementTitle.class);
-                    if (elementTitle != null && !elementTitle.value().isEmpty()) {
-                        return elementTitle.value();
-                    }
-                    return entry.getValue();
-                }
-            } catch (NoSuchElementException | StaleElementReferenceException | ElementDescriptionException ex) {
-                LOG.debug("Failed to get element '" + element + "' title", ex);
+        if (!isElementTitlesIndexed) {
+            indexElementTitles();
+        }
+        String title = elementTitles.get(element);
+        // reading of page fields always dropped the block context, keep it so
+        SessionContext.getCurrent().setUsedBlock(null);
+        return title != null ? title : element.toString();
+    }
+
+    /**
+     * Build reverse index of the page elements once per page instance, as
+     * page fields are not changed after construction. Fields are read without
+     * any calls to the browser, the first field wins if several fields hold
+     * the same element. Elements of blocks and lists are not indexed
+     */
+    private void indexElementTitles() {
+        isElementTitlesIndexed = true;
+        PageDescriptor descriptor = PageRegistry.getDescriptor(this.getClass());
+        for (ElementAccessor accessor : descriptor.getFieldAccessors()) {
+            WebElement value = (WebElement) accessor.get(this);
+            if (value != null && !elementTitles.containsKey(value)) {
+                elementTitles.put(value, descriptor.getFields().get(accessor.getField()));
             }
         }
-        return element.toString();
     }
 
     /**
@@ -833,12 +996,26 @@ public abstract class Page {
                 LOG.warn("Current page not initialized yet. You must initialize it by hands at first time only.");
                 return null;
             }
-            return Core.findRedirect(currentPage, element);
+            return currentPage.findRedirect(element);
         } catch (IllegalArgumentException | PageInitializationException ex) {
             throw new ElementDescriptionException("Failed to get element redirect", ex);
         }
     }
 
+    /**
+     * Search for the given element among the redirect fields of the page and
+     * its blocks. Redirect fields are read once per page instance
+     *
+     * @param element element that is being checked for redirection
+     * @return class of the page, this element redirects to
+     */
+    private Class<? extends Page> findRedirect(WebElement element) {
+        if (elementRedirects == null) {
+            elementRedirects = PageRegistry.getDescriptor(this.getClass()).getRedirectTable().resolve(this);
+        }
+        return elementRedirects.get(element);
+    }
+
     /**
      * Find specified WebElement by title annotation among current page fields
      *
@@ -848,17 +1025,16 @@ public abstract class Page {
      * find corresponding element or element type is set incorrectly
      */
     public WebElement getElementByTitle(String title) throws PageException {
-        if (!isUsedBlock) {
-            for (Field field : FieldUtilsExt.getDeclaredFieldsWithInheritance(this.getClass())) {
-                if (Core.isRequiredElement(field, title)) {
-                    return Core.getElementByField(this, field);
-                }
+        WebElement usedBlock = SessionContext.getCurrent().getUsedBlock();
+        if (usedBlock == null) {
+            ElementAccessor accessor = PageRegistry.getDescriptor(this.getClass()).getElement(title);
+            if (accessor != null) {
+                return Core.getElementByAccessor(this, accessor);
             }
         } else {
-            for (Field field : FieldUtilsExt.getDeclaredFieldsWithInheritance(usedBlock)) {
-                if (Core.isRequiredElementInBlock(field, title)) {
-                    return Core.getElementByField(usedBlock, field);
-                }
+            ElementAccessor accessor = PageRegistry.getDescriptor(usedBlock.getClass()).getBlockElement(title);
+            if (accessor != null) {
+                return Core.getElementByAccessor(usedBlock, accessor);
             }
         }
 
@@ -877,9 +1053,10 @@ public abstract class Page {
      * find corresponding element or element type is set incorrectly
      */
     public <T extends WebElement> T getElementByTitle(String title, Class<T> type) throws PageException {
-        for (Field field : FieldUtilsExt.getDeclaredFieldsWithInheritance(this.getClass())) {
-            if (Core.isRequiredElement(field, title) && field.getType().equals(type)) {
-                return Core.getElementByField(this, field);
+        List<ElementAccessor> accessors = PageRegistry.getDescriptor(this.getClass()).getElements(title);
+        for (int i = 0; i < accessors.size(); i++) {
+            if (accessors.get(i).getField().getType().equals(type)) {
+                return Core.getElementByAccessor(this, accessors.get(i));
             }
         }
         throw new ElementNotFoundException(String.format("Element \"%s\" is not present on current page \"%s\"'", title, this.getTitle()));
@@ -894,16 +1071,14 @@ public abstract class Page {
      * found
      */
     public void executeMethodByTitle(String title, Object... param) throws NoSuchMethodException {
-        List<Method> methods = Core.getDeclaredMethods(this.getClass());
-        for (Method method : methods) {
-            if (Core.isRequiredAction(method, title)) {
-                try {
-                    method.setAccessible(true);
-                    MethodUtils.invokeMethod(this, method.getName(), param);
-                    return;
-                } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-                    throw new FactoryRuntimeException("Error while executing action '" + title + "' on " + method.getDeclaringClass().getSimpleName() + " . See the caused exception below", ExceptionUtils.getRootCause(e));
-                }
+        ActionTable actions = PageRegistry.getDescriptor(this.getClass()).getActionTable();
+        List<ActionInvoker> titled = actions.getActions(title);
+        if (!titled.isEmpty()) {
+            try {
+                Core.invokeAction(this, actions, title, param);
+                return;
+            } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+                throw new FactoryRuntimeException("Error while executing action '" + title + "' on " + titled.get(0).getMethod().getDeclaringClass().getSimpleName() + " . See the caused exception below", ExceptionUtils.getRootCause(e));
             }
         }
 
@@ -920,18 +1095,15 @@ public abstract class Page {
      * find corresponding validation rule
      */
     public void fireValidationRule(String title, Object... params) throws PageException {
-        Method[] methods = this.getClass().getMethods();
-        for (Method method : methods) {
-            if (null != method.getAnnotation(ValidationRule.class)
-                    && method.getAnnotation(ValidationRule.class).title().equals(title)) {
-                try {
-                    method.invoke(this, params);
-                } catch (InvocationTargetException | IllegalArgumentException | IllegalAccessException e) {
-                    LOG.debug("Failed to invoke method {}", method, e);
-                    throw new FactoryRuntimeException("Failed to invoke method", e);
-                }
-                return;
+        Method method = PageRegistry.getDescriptor(this.getClass()).getValidationRule(title);
+        if (method != null) {
+            try {
+                method.invoke(this, params);
+            } catch (InvocationTargetException | IllegalArgumentException | IllegalAccessException e) {
+                LOG.debug("Failed to invoke method {}", method, e);
+                throw new FactoryRuntimeException("Failed to invoke method", e);
             }
+            return;
         }
         throw new PageException("There is no '" + title + "' validation rule in '" + this.getTitle() + "' page.");
     }
@@ -942,83 +1114,29 @@ public abstract class Page {
     private static class Core {
 
         /**
-         * Return a list of methods declared tin the given class and its super
-         * classes
-         *
-         * @param clazz class to check
-         * @return list of methods. could be empty list
-         */
-        private static List<Method> getDeclaredMethods(Class clazz) {
-            List<Method> methods = new ArrayList<>();
-
-            methods.addAll(Arrays.asList(clazz.getDeclaredMethods()));
-
-            Class supp = clazz.getSuperclass();
-
-            while (supp != java.lang.Object.class) {
-                methods.addAll(Arrays.asList(supp.getDeclaredMethods()));
-                supp = supp.getSuperclass();
-            }
-
-            return methods;
-        }
-
-        /**
-         * Check whether given method has {@link ActionTitle} or
-         * {@link ActionTitles} annotation with required title
-         *
-         * @param method method to check
-         * @param title required title
-         * @return true|false
-         */
-        private static Boolean isRequiredAction(Method method, final String title) {
-            ActionTitle actionTitle = method.getAnnotation(ActionTitle.class);
-            ActionTitles actionTitles = method.getAnnotation(ActionTitles.class);
-            List<ActionTitle> actionList = new ArrayList<>();
-
-            if (actionTitles != null) {
-                actionList.addAll(Arrays.asList(actionTitles.value()));
-            }
-            if (actionTitle != null) {
-                actionList.add(actionTitle);
-            }
-
-            I18N i18n = null;
-            try {
-                i18n = I18N.getI18n(method.getDeclaringClass(), ScenarioContext.getScenario());
-            } catch (I18NRuntimeException e) {
-                LOG.debug("There is no bundle for translation class. Leave it as is", e);
-            }
-
-            for (ActionTitle action : actionList) {
-                String actionValue;
-                actionValue = (i18n != null) ? i18n.get(action.value()) : action.value();
-
-                if (actionValue.equals(title)) {
-                    return true;
-                }
-            }
-
-            return false;
-        }
-
-        /**
-         * Check whether given field is a child of specified class
+         * Invoke action with required title on the given object. Action is
+         * being chosen from the dispatch table by its signature. If there is
+         * no action with exactly matching signature, overloads are being
+         * resolved by the name of the first titled method
          *
-         * @param parent class that is supposed to be parent
-         * @param field field to check
-         * @return true|false
+         * @param target page or block to invoke action on
+         * @param actions dispatch table of the target
+         * @param title translated action title
+         * @param parameters action parameters
+         * @throws NoSuchMethodException if there is no method applicable to
+         * the parameters
+         * @throws IllegalAccessException if method is not accessible
+         * @throws InvocationTargetException if action throws an exception
          */
-        private static boolean isChildOf(Class<?> parent, Field field) {
-            Class<?> fieldType = field.getType();
-            while (fieldType != null && fieldType != Object.class) {
-                if (fieldType == parent) {
-                    return true;
-                }
-                fieldType = fieldType.getSuperclass();
+        private static void invokeAction(Object target, ActionTable actions, String title, Object[] parameters)
+                throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
+            Object[] args = parameters == null ? NO_PARAMETERS : parameters;
+            ActionInvoker action = actions.getAction(title, args);
+            if (action != null) {
+                action.invoke(target, args);
+            } else {
+                MethodUtils.invokeMethod(target, actions.getActions(title).get(0).getMethod().getName(), args);
             }
-
-            return false;
         }
 
         /**
@@ -1026,49 +1144,17 @@ public abstract class Page {
          * class that extends HtmlElement. If blockPath contains delimiters, it
          * will be treated as a full path, and block should be located by the
          * exactly that path. Otherwise, recursive search via all blocks is
-         * being performed
+         * being performed. Path is being compiled once per context class, see
+         * {@link BlockPath}
          *
          * @param blockPath full path or just a name of the block to search
          * @param context object where the search will be performed
          * @param returnFirstFound whether the search should be stopped on a
          * first found block (for faster searches)
          * @return list of found blocks. could be empty
-         * @throws IllegalAccessException if called with invalid context
          */
-        private static List<HtmlElement> findBlocks(String blockPath, Object context, boolean returnFirstFound)
-                throws IllegalAccessException {
-            String[] blockChain;
-            if (blockPath.contains("->")) {
-                blockChain = blockPath.split("->");
-            } else {
-                blockChain = new String[]{blockPath};
-            }
-            List<HtmlElement> found = new ArrayList<>();
-            for (Field currentField : FieldUtilsExt.getDeclaredFieldsWithInheritance(context.getClass())) {
-                if (Core.isBlockElement(currentField)) {
-                    currentField.setAccessible(true);
-
-                    if (Core.isRequiredElement(currentField, blockChain[0])) {
-                        // isBlockElement() ensures that this is a HtmlElement instance
-                        HtmlElement foundBlock = (HtmlElement) currentField.get(context);
-                        if (blockChain.length == 1) {
-                            // Found required block directly inside the context
-                            found.add(foundBlock);
-                            if (returnFirstFound) {
-                                return found;
-                            }
-                        } else {
-                            // Continue to search in the element chain, reducing its length by the first found element
-                            // +2 because '->' adds 2 symbols
-                            String reducedPath = blockPath.substring(blockChain[0].length() + 2);
-                            found.addAll(findBlocks(reducedPath, foundBlock, returnFirstFound));
-                        }
-                    } else if (blockChain.length == 1) {
-                        found.addAll(findBlocks(blockPath, currentField.get(context), returnFirstFound));
-                    }
-                }
-            }
-            return found;
+        private static List<HtmlElement> findBlocks(String blockPath, Object context, boolean returnFirstFound) {
+            return PageRegistry.getDescriptor(context.getClass()).getBlockPath(blockPath).resolve(context, returnFirstFound);
         }
 
         /**
@@ -1088,17 +1174,12 @@ public abstract class Page {
         @SuppressWarnings("unchecked")
         private static <T extends WebElement> List<T> findListOfElements(String listTitle, Class<T> type, Object context)
                 throws PageException {
-            for (Field field : FieldUtilsExt.getDeclaredFieldsWithInheritance(context.getClass())) {
-                if (Core.isRequiredElement(field, listTitle) && List.class.isAssignableFrom(field.getType())
+            for (ElementAccessor accessor : PageRegistry.getDescriptor(context.getClass()).getElements(listTitle)) {
+                Field field = accessor.getField();
+                if (List.class.isAssignableFrom(field.getType())
                         && field.getGenericType() instanceof ParameterizedType
                         && ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0].equals(type)) {
-                    field.setAccessible(true);
-                    try {
-                        return (List<T>) field.get(context);
-                    } catch (IllegalAccessException e) {
-                        throw new FactoryRuntimeException(
-                                String.format("Internal error during attempt to find list '%s'", listTitle), e);
-                    }
+                    return (List<T>) accessor.get(context);
                 }
             }
             throw new ElementNotFoundException(String.format("Couldn't find elements list '%s' on page '%s'", listTitle, PageFactory.getInstance().getCurrentPageTitle()));
@@ -1118,22 +1199,16 @@ public abstract class Page {
          */
         private static <T extends WebElement> T findElementInBlock(HtmlElement block, String elementTitle, Class<T> type)
                 throws ElementDescriptionException {
-            for (Field f : FieldUtils.getAllFields(block.getClass())) {
-                if (Core.isRequiredElement(f, elementTitle) && type.isAssignableFrom(f.getType())) {
-                    f.setAccessible(true);
+            for (ElementAccessor accessor : PageRegistry.getDescriptor(block.getClass()).getElements(elementTitle)) {
+                Field field = accessor.getField();
+                if (type.isAssignableFrom(field.getType())) {
                     try {
-                        return type.cast(f.get(block));
-                    } catch (IllegalAccessException iae) {
-                        // Since we explicitly set the field to be accessible, this exception is unexpected.
-                        // It might mean that we try to get field in context of an object it doesn't belong to
-                        throw new FactoryRuntimeException(
-                                String.format("Internal error during attempt to find element '%s' in block '%s'",
-                                        elementTitle, block.getName()), iae);
+                        return type.cast(accessor.get(block));
                     } catch (ClassCastException cce) {
                         throw new ElementDescriptionException(
                                 String.format("Element '%s' was found in block '%s', but it's type is incorrect."
                                                 + "Requested '%s', but got '%s'",
-                                        elementTitle, block.getName(), type.getName(), f.getType()), cce);
+                                        elementTitle, block.getName(), type.getName(), field.getType()), cce);
                     }
                 }
             }
@@ -1141,132 +1216,11 @@ public abstract class Page {
         }
 
         /**
-         * Check if corresponding field is a block. I.e. it has
-         * {@link ElementTitle} annotation and extends {@link HtmlElement} class
-         * directly
-         *
-         * @param field field that is being checked
-         * @return true|false
-         */
-        private static boolean isBlockElement(Field field) {
-
-            return (null != field.getAnnotation(ElementTitle.class))
-                    && Core.isChildOf(HtmlElement.class, field);
-        }
-
-        /**
-         * Check whether {@link ElementTitle} annotation of the field has a
-         * required value
-         *
-         * @param field field to check
-         * @param title value of ElementTitle annotation of required element
-         * @return true|false
-         */
-        private static boolean isRequiredElement(Field field, String title) {
-            return getFieldTitle(field).equals(title);
-        }
-
-        /**
-         * Check whether {@link Name} annotation of the field has a
-         * required value
-         *
-         * @param field field to check
-         * @param title value of ElementTitle annotation of required element
-         * @return true|false
-         */
-        private static boolean isRequiredElementInBlock(Field field, String title) {
-            return getFieldTitleInBlock(field).equals(title);
-        }
-
-        /**
-         * Return value of {@link ElementTitle} annotation for the field. If
-         * none present, return empty string
-         *
-         * @param field field to check
-         * @return either an element title, or an empty string
-         */
-        private static String getFieldTitle(Field field) {
-            for (Annotation a : field.getAnnotations()) {
-                if (a instanceof ElementTitle) {
-                    return ((ElementTitle) a).value();
-                }
-            }
-            return "";
-        }
-
-        /**
-         * Return value of {@link Name} or {@link ElementTitle} annotation for the field. If
-         * none present, return empty string
-         *
-         * @param field field to check
-         * @return either an element title, or an empty string
-         */
-        private static String getFieldTitleInBlock(Field field) {
-            for (Annotation a : field.getAnnotations()) {
-                if (a instanceof Name) {
-                    return ((Name) a).value();
-                }
-                if (a instanceof ElementTitle) {
-                    return ((ElementTitle) a).value();
-                }
-            }
-            return "";
-        }
-
-        /**
-         * Search for the given given element among the parent object fields,
-         * check whether it has a {@link
-         * RedirectsTo} annotation, and return a redirection page class, if so.
-         * Search goes in recursion if it meets HtmlElement field, as given
-         * element could be inside of the block
-         *
-         * @param element element that is being checked for redirection
-         * @param parent parent object
-         * @return class of the page, this element redirects to
-         */
-        private static Class<? extends Page> findRedirect(Object parent, Object element) {
-            if (PageFactory.getPageRepository().get(parent.getClass()) == null) {
-                return null;
-            }
-
-            for (Map.Entry<Field, String> entry : PageFactory.getPageRepository().get(parent.getClass()).entrySet()) {
-                Field field = entry.getKey();
-                RedirectsTo redirect = field.getAnnotation(RedirectsTo.class);
-
-                if (redirect != null) {
-                    try {
-                        field.setAccessible(true);
-                        Object targetField = field.get(parent);
-                        if (targetField != null) {
-                            if (targetField == element) {
-                                return redirect.page();
-                            }
-                        }
-                    } catch (NoSuchElementException | StaleElementReferenceException | SecurityException | IllegalArgumentException | IllegalAccessException ex) {
-                        LOG.debug("Failed to get page destination to redirect for element", ex);
-                    }
-                }
-                if (Core.isChildOf(HtmlElement.class, field)) {
-                    field.setAccessible(true);
-                    Class<? extends Page> redirects = null;
-                    try {
-                        redirects = findRedirect(field.get(parent), element);
-                    } catch (IllegalArgumentException | IllegalAccessException ex) {
-                        LOG.debug("Failed to get page destination to redirect for html element", ex);
-                    }
-                    if (redirects != null) {
-                        return redirects;
-                    }
-                }
-            }
-            return null;
-        }
-
-        /**
-         * Get object from a field of specified parent
+         * Get object from a field of specified parent using precompiled
+         * accessor
          *
          * @param parentObject object that contains(must contain) given field
-         * @param field field to get
+         * @param accessor accessor of the field to get
          * @param <T> supposed type of the field. if field cannot be cast into
          * this type, it will fail
          * @return element of requested type
@@ -1274,20 +1228,14 @@ public abstract class Page {
          * to the object, or element could not be cast to specified type
          */
         @SuppressWarnings("unchecked")
-        private static <T> T getElementByField(Object parentObject, Field field) throws ElementDescriptionException {
-            field.setAccessible(true);
-            Object element;
+        private static <T> T getElementByAccessor(Object parentObject, ElementAccessor accessor) throws ElementDescriptionException {
             try {
-                element = field.get(parentObject);
-                isUsedBlock = false;
-                usedBlock = null;
+                Object element = accessor.get(parentObject);
+                SessionContext.getCurrent().setUsedBlock(null);
                 return (T) element;
-            } catch (IllegalArgumentException | IllegalAccessException iae) {
-                throw new ElementDescriptionException("Specified parent object is not an instance of the class or "
-                        + "interface, declaring the underlying field: '" + field + "'", iae);
             } catch (ClassCastException cce) {
-                throw new ElementDescriptionException("Requested type is incompatible with field '" + field.getName()
-                        + "' of '" + parentObject.getClass().getCanonicalName() + "'", cce);
+                throw new ElementDescriptionException("Specified parent object is not an instance of the class or "
+                        + "interface, declaring the underlying field: '" + accessor.getField() + "'", cce);
             }
         }
     }
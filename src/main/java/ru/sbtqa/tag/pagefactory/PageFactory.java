@@ -2,7 +2,6 @@ package ru.sbtqa.tag.pagefactory;
 
 import io.appium.java_client.AppiumDriver;
 import java.lang.reflect.Field;
-import java.util.HashMap;
 import java.util.Map;
 import org.apache.commons.validator.routines.IntegerValidator;
 import org.openqa.selenium.WebDriver;
@@ -10,6 +9,7 @@ import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.pagefactory.FieldDecorator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.sbtqa.tag.pagefactory.descriptor.PageRegistry;
 import ru.sbtqa.tag.pagefactory.drivers.TagMobileDriver;
 import ru.sbtqa.tag.pagefactory.drivers.TagWebDriver;
 import ru.sbtqa.tag.pagefactory.exceptions.FactoryRuntimeException;
@@ -21,12 +21,7 @@ public class PageFactory {
 
     private static final Logger LOG = LoggerFactory.getLogger(PageFactory.class);
 
-    private static final Map<Class<? extends Page>, Map<Field, String>> PAGES_REPOSITORY = new HashMap<>();
-
-    private static Actions actions;
-    private static PageWrapper PageWrapper;
     private static VideoRecorder videoRecorder;
-    private static boolean aspectsDisabled = false;
     private static String defaultTimeout = "20771";
 
     private static final String ENVIRONMENT = Props.get("driver.environment");
@@ -35,7 +30,6 @@ public class PageFactory {
     private static final String ENVIRONMENT_WEB = "web";
     private static final String ENVIRONMENT_MOBILE = "mobile";
     private static final boolean VIDEO_ENABLED = Boolean.parseBoolean(Props.get("video.enabled", "false"));
-    private static boolean isSharingProcessing = false;
 
     public static WebDriver getWebDriver() {
         return getDriver();
@@ -57,8 +51,10 @@ public class PageFactory {
     }
 
     public static void dispose() {
-        PageWrapper = null;
-        actions = null;
+        SessionContext context = SessionContext.getCurrent();
+        context.setPageWrapper(null);
+        context.setActions(null);
+        context.setWindowHandles(null);
         switch (getEnvironment()) {
             case WEB:
                 TagWebDriver.dispose();
@@ -80,27 +76,29 @@ public class PageFactory {
     }
 
     /**
-     * Get PageFactory instance
+     * Get PageFactory instance of the current session
      *
      * @return PageFactory
      */
     public static PageWrapper getInstance() {
-        if (null == PageWrapper) {
-            PageWrapper = new PageWrapper(getPagesPackage());
+        SessionContext context = SessionContext.getCurrent();
+        if (null == context.getPageWrapper()) {
+            context.setPageWrapper(new PageWrapper(getPagesPackage()));
         }
-        return PageWrapper;
+        return context.getPageWrapper();
     }
 
     /**
-     * Get driver actions
+     * Get driver actions of the current session
      *
      * @return Actions
      */
     public static Actions getActions() {
-        if (null == actions) {
-            actions = new Actions(getWebDriver());
+        SessionContext context = SessionContext.getCurrent();
+        if (null == context.getActions()) {
+            context.setActions(new Actions(getWebDriver()));
         }
-        return actions;
+        return context.getActions();
     }
 
     /**
@@ -141,9 +139,10 @@ public class PageFactory {
 
     /**
      * @return the pageRepository
+     * @see PageRegistry#getPageRepository()
      */
     public static Map<Class<? extends Page>, Map<Field, String>> getPageRepository() {
-        return PAGES_REPOSITORY;
+        return PageRegistry.getPageRepository();
     }
 
     /**
@@ -152,7 +151,7 @@ public class PageFactory {
      * @return the aspectsDisabled default false
      */
     public static boolean isAspectsDisabled() {
-        return aspectsDisabled;
+        return SessionContext.getCurrent().isAspectsDisabled();
     }
 
     /**
@@ -161,7 +160,7 @@ public class PageFactory {
      * @param aAspectsDisabled default false
      */
     public static void setAspectsDisabled(boolean aAspectsDisabled) {
-        aspectsDisabled = aAspectsDisabled;
+        SessionContext.getCurrent().setAspectsDisabled(aAspectsDisabled);
     }
 
     public static void setVideoRecorderToNull() {
@@ -196,14 +195,14 @@ public class PageFactory {
      * @return the isSharingProcessing
      */
     public static boolean isSharingProcessing() {
-        return isSharingProcessing;
+        return SessionContext.getCurrent().isSharingProcessing();
     }
 
     /**
      * @param aIsSharingProcessing the isSharingProcessing to set
      */
     public static void setSharingProcessing(boolean aIsSharingProcessing) {
-        isSharingProcessing = aIsSharingProcessing;
+        SessionContext.getCurrent().setSharingProcessing(aIsSharingProcessing);
     }
 
     /**
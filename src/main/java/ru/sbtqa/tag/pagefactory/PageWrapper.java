@@ -7,19 +7,37 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.reflect.FieldUtils;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.sbtqa.tag.pagefactory.annotations.PageEntry;
+import ru.sbtqa.tag.pagefactory.descriptor.ElementAccessor;
+import ru.sbtqa.tag.pagefactory.descriptor.PageDescriptor;
+import ru.sbtqa.tag.pagefactory.descriptor.PageRegistry;
 import ru.sbtqa.tag.pagefactory.exceptions.PageInitializationException;
+import ru.sbtqa.tag.pagefactory.exceptions.WaitException;
+import ru.sbtqa.tag.pagefactory.extensions.WebExtension;
+import ru.sbtqa.tag.pagefactory.index.PageIndex;
+import ru.sbtqa.tag.pagefactory.support.Environment;
+import ru.sbtqa.tag.pagefactory.support.Poller;
 import ru.sbtqa.tag.qautils.errors.AutotestError;
 
 public class PageWrapper {
 
     private static final Logger LOG = LoggerFactory.getLogger(PageWrapper.class);
 
+    private static final Map<String, Map<String, Class<?>>> SCANNED_PAGES = new ConcurrentHashMap<>();
+
     private String currentPageTitle;
     private Page currentPage;
 
@@ -156,12 +174,39 @@ public class PageWrapper {
     }
 
     /**
+     * Find page class by its title. Generated {@link PageIndex} is looked up
+     * first. If the page is not indexed, e.g. it is titled by a static
+     * {@code title} field or the index comes from another module, classpath
+     * is being scanned once per package
      *
-     * @param packageName TODO
-     * @param title TODO
-     * @return
+     * @param packageName package to search in
+     * @param title page title
+     * @return page class or null if nothing found
      */
     private Class<?> getPageClass(final String packageName, String title) {
+        PageIndex index = PageIndex.getInstance();
+        if (index.isPresent()) {
+            Class<?> indexed = index.getPageClass(packageName, title);
+            if (indexed != null) {
+                return indexed;
+            }
+        }
+
+        Map<String, Class<?>> titles = SCANNED_PAGES.get(packageName);
+        if (titles == null) {
+            titles = scanPackage(packageName);
+            SCANNED_PAGES.putIfAbsent(packageName, titles);
+        }
+        return titles.get(title);
+    }
+
+    /**
+     * Scan classpath for page objects inside of the given package
+     *
+     * @param packageName package to scan
+     * @return map of page titles to page classes
+     */
+    private static Map<String, Class<?>> scanPackage(final String packageName) {
         ClassLoader loader = Thread.currentThread().getContextClassLoader();
         final Set<Class<?>> allClasses = new HashSet<>();
         try {
@@ -174,6 +219,7 @@ public class PageWrapper {
             LOG.warn("Failed to shape class info set", ex);
         }
 
+        Map<String, Class<?>> titles = new HashMap<>();
         for (Class<?> page : allClasses) {
             String pageTitle = null;
             if (null != page.getAnnotation(PageEntry.class)) {
@@ -185,17 +231,17 @@ public class PageWrapper {
                     LOG.debug("Failed to read {} becase it is not page object", pageTitle, ex);
                 }
             }
-            if (pageTitle != null && pageTitle.equals(title)) {
-                return page;
+            if (pageTitle != null && !titles.containsKey(pageTitle)) {
+                titles.put(pageTitle, page);
             }
         }
 
-        return null;
+        return titles;
     }
 
     /**
-     * Run constructor of specified page class and put its instance into static
-     * {@link #currentPage} variable
+     * Run constructor of specified page class, wait for its readiness and put
+     * its instance into {@link #currentPage} variable
      *
      * @param page page class
      * @return initialized page
@@ -204,20 +250,78 @@ public class PageWrapper {
      */
     private Page bootstrapPage(Class<?> page) throws PageInitializationException {
         if (page != null) {
+            Page initializedPage;
             try {
                 @SuppressWarnings("unchecked")
                 Constructor<Page> constructor = ((Constructor<Page>) page.getConstructor());
                 constructor.setAccessible(true);
-                currentPage = constructor.newInstance();
-                currentPageTitle = currentPage.getTitle();
-                return currentPage;
+                initializedPage = constructor.newInstance();
             } catch (NoSuchMethodException | SecurityException | InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
                 throw new PageInitializationException("Failed to initialize page '" + page + "'", e);
             }
+            awaitReadiness(initializedPage);
+            currentPage = initializedPage;
+            currentPageTitle = initializedPage.getTitle();
+            return currentPage;
         }
         return null;
     }
 
+    /**
+     * Wait until readiness contract declared by {@link PageEntry} of the page
+     * is met. Does nothing if there is no contract. Mobile pages check only
+     * ready elements. Ready elements are looked up among the page fields
+     * regardless of the block used by the previous action
+     *
+     * @param page initialized page
+     * @throws PageInitializationException if ready element is not declared
+     * on the page
+     */
+    private static void awaitReadiness(Page page) throws PageInitializationException {
+        PageEntry entry = page.getClass().getAnnotation(PageEntry.class);
+        if (entry == null || (entry.readyElements().length == 0 && entry.readyUrl().isEmpty() && !entry.networkIdle())) {
+            return;
+        }
+
+        PageDescriptor descriptor = PageRegistry.getDescriptor(page.getClass());
+        List<WebElement> readyElements = new ArrayList<>(entry.readyElements().length);
+        for (String title : entry.readyElements()) {
+            ElementAccessor accessor = descriptor.getElement(title);
+            Object element = accessor != null ? accessor.get(page) : null;
+            if (!(element instanceof WebElement)) {
+                throw new PageInitializationException("Ready element '" + title + "' is not declared on page '" + entry.title() + "'");
+            }
+            readyElements.add((WebElement) element);
+        }
+
+        long elapsed;
+        if (PageFactory.getEnvironment() == Environment.WEB) {
+            elapsed = WebExtension.waitForPageReadiness(page.getClass(), readyElements);
+        } else {
+            long start = System.currentTimeMillis();
+            if (!Poller.until("readiness of page '" + entry.title() + "'", PageFactory.getTimeOut(), () -> isDisplayed(readyElements))) {
+                throw new WaitException("Timed out after " + PageFactory.getTimeOutInSeconds() + " seconds waiting for readiness of page '"
+                        + entry.title() + "'. Elements: " + Arrays.toString(entry.readyElements()));
+            }
+            elapsed = System.currentTimeMillis() - start;
+        }
+        LOG.info("Page '{}' became ready in {} ms", entry.title(), elapsed);
+    }
+
+    private static boolean isDisplayed(List<WebElement> elements) {
+        try {
+            for (WebElement element : elements) {
+                if (!element.isDisplayed()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (WebDriverException e) {
+            LOG.debug("Ready element is not displayed", e);
+            return false;
+        }
+    }
+
     /**
      * @return the currentPageTitle
      */
@@ -1,18 +1,102 @@
 package ru.sbtqa.tag.pagefactory;
 
 import cucumber.api.Scenario;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class ScenarioContext {
 
-    private static Scenario scenario;
+    private static final Logger LOG = LoggerFactory.getLogger(ScenarioContext.class);
+
+    private static final Locale DEFAULT_LOCALE = new Locale("en");
+    private static final Pattern LANGUAGE_HEADER = Pattern.compile("^\\s*#\\s*language\\s*:\\s*([\\w-]+)\\s*$");
+    private static final String CLASSPATH_PREFIX = "classpath:";
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+    private static final Map<String, Locale> FEATURE_LOCALES = new ConcurrentHashMap<>();
 
     private ScenarioContext() {}
 
     public static Scenario getScenario() {
-        return scenario;
+        return SessionContext.getCurrent().getScenario();
     }
 
     public static void setScenario(Scenario scenario) {
-        ScenarioContext.scenario = scenario;
+        SessionContext context = SessionContext.getCurrent();
+        context.setScenario(scenario);
+        context.setLocale(resolveLocale(scenario));
+    }
+
+    /**
+     * Get language of the current scenario. It is taken from the
+     * {@code # language:} header of the feature file, which may start with a
+     * UTF-8 byte order mark as Cucumber allows, and is resolved once per
+     * feature
+     *
+     * @return locale of the current scenario. English if there is no scenario
+     * or feature has no language header
+     */
+    public static Locale getLocale() {
+        Locale locale = SessionContext.getCurrent().getLocale();
+        return locale != null ? locale : DEFAULT_LOCALE;
+    }
+
+    private static Locale resolveLocale(Scenario scenario) {
+        String uri = scenario != null ? scenario.getUri() : null;
+        if (uri == null) {
+            return DEFAULT_LOCALE;
+        }
+        Locale featureLocale = FEATURE_LOCALES.get(uri);
+        if (featureLocale == null) {
+            featureLocale = FEATURE_LOCALES.computeIfAbsent(uri, ScenarioContext::readFeatureLocale);
+        }
+        return featureLocale;
+    }
+
+    private static Locale readFeatureLocale(String uri) {
+        try (InputStream feature = openFeature(uri)) {
+            if (feature == null) {
+                LOG.debug("Feature {} not found. Default language is used", uri);
+                return DEFAULT_LOCALE;
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(feature, StandardCharsets.UTF_8));
+            String line = reader.readLine();
+            if (line != null && line.startsWith(BYTE_ORDER_MARK)) {
+                line = line.substring(BYTE_ORDER_MARK.length());
+            }
+            for (; line != null; line = reader.readLine()) {
+                Matcher matcher = LANGUAGE_HEADER.matcher(line);
+                if (matcher.matches()) {
+                    return new Locale(matcher.group(1));
+                }
+                String trimmed = line.trim();
+                if (!trimmed.isEmpty() && !trimmed.startsWith("#")) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            LOG.debug("Failed to read language of feature {}. Default language is used", uri, e);
+        }
+        return DEFAULT_LOCALE;
+    }
+
+    private static InputStream openFeature(String uri) throws IOException {
+        String path = uri.startsWith(CLASSPATH_PREFIX) ? uri.substring(CLASSPATH_PREFIX.length()) : uri;
+        File file = new File(path);
+        if (file.isFile()) {
+            return new FileInputStream(file);
+        }
+        return Thread.currentThread().getContextClassLoader().getResourceAsStream(path.startsWith("/") ? path.substring(1) : path);
     }
 }
@@ -0,0 +1,310 @@
+package ru.sbtqa.tag.pagefactory;
+
+import cucumber.api.Scenario;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.android.AndroidElement;
+import java.util.Locale;
+import java.util.Set;
+import net.lightbody.bmp.BrowserMobProxy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+import ru.sbtqa.tag.datajack.TestDataObject;
+import ru.sbtqa.tag.pagefactory.drivers.DevicePool;
+
+/**
+ * State of a single test session: drivers, current page, used block, actions,
+ * scenario and test data. Each thread works with its own context, so several
+ * scenarios could run concurrently in one JVM. Static API of
+ * {@link PageFactory}, {@link ScenarioContext},
+ * {@link ru.sbtqa.tag.pagefactory.drivers.TagWebDriver},
+ * {@link ru.sbtqa.tag.pagefactory.drivers.TagMobileDriver} and
+ * {@link ru.sbtqa.tag.pagefactory.support.data.DataProvider} is a facade over
+ * the context of the current thread
+ */
+public class SessionContext {
+
+    private static final ThreadLocal<SessionContext> CURRENT = new ThreadLocal<SessionContext>() {
+        @Override
+        protected SessionContext initialValue() {
+            return new SessionContext();
+        }
+    };
+
+    private PageWrapper pageWrapper;
+    private Actions actions;
+    private boolean aspectsDisabled = false;
+    private boolean sharingProcessing = false;
+
+    private WebDriver webDriver;
+    private BrowserMobProxy proxy;
+    private AppiumDriver<AndroidElement> mobileDriver;
+    private DevicePool.Device device;
+    private String deviceUdId;
+    private String activeIme;
+    private Set<String> windowHandles;
+
+    private WebElement usedBlock;
+
+    private Scenario scenario;
+    private Locale locale;
+
+    private TestDataObject dataContainer;
+    private String configCollection;
+
+    /**
+     * Get context of the current thread. Context is being created on the
+     * first request
+     *
+     * @return session context
+     */
+    public static SessionContext getCurrent() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Bind context to the current thread. Used to pass a session to another
+     * thread explicitly
+     *
+     * @param context context to bind
+     */
+    public static void setCurrent(SessionContext context) {
+        CURRENT.set(context);
+    }
+
+    /**
+     * Unbind context from the current thread. Next request will create a new
+     * one
+     */
+    public static void remove() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return the pageWrapper
+     */
+    public PageWrapper getPageWrapper() {
+        return pageWrapper;
+    }
+
+    /**
+     * @param pageWrapper the pageWrapper to set
+     */
+    public void setPageWrapper(PageWrapper pageWrapper) {
+        this.pageWrapper = pageWrapper;
+    }
+
+    /**
+     * @return the actions
+     */
+    public Actions getActions() {
+        return actions;
+    }
+
+    /**
+     * @param actions the actions to set
+     */
+    public void setActions(Actions actions) {
+        this.actions = actions;
+    }
+
+    /**
+     * @return the aspectsDisabled
+     */
+    public boolean isAspectsDisabled() {
+        return aspectsDisabled;
+    }
+
+    /**
+     * @param aspectsDisabled the aspectsDisabled to set
+     */
+    public void setAspectsDisabled(boolean aspectsDisabled) {
+        this.aspectsDisabled = aspectsDisabled;
+    }
+
+    /**
+     * @return the sharingProcessing
+     */
+    public boolean isSharingProcessing() {
+        return sharingProcessing;
+    }
+
+    /**
+     * @param sharingProcessing the sharingProcessing to set
+     */
+    public void setSharingProcessing(boolean sharingProcessing) {
+        this.sharingProcessing = sharingProcessing;
+    }
+
+    /**
+     * @return the webDriver
+     */
+    public WebDriver getWebDriver() {
+        return webDriver;
+    }
+
+    /**
+     * @param webDriver the webDriver to set
+     */
+    public void setWebDriver(WebDriver webDriver) {
+        this.webDriver = webDriver;
+    }
+
+    /**
+     * @return the proxy
+     */
+    public BrowserMobProxy getProxy() {
+        return proxy;
+    }
+
+    /**
+     * @param proxy the proxy to set
+     */
+    public void setProxy(BrowserMobProxy proxy) {
+        this.proxy = proxy;
+    }
+
+    /**
+     * @return the mobileDriver
+     */
+    public AppiumDriver<AndroidElement> getMobileDriver() {
+        return mobileDriver;
+    }
+
+    /**
+     * @param mobileDriver the mobileDriver to set
+     */
+    public void setMobileDriver(AppiumDriver<AndroidElement> mobileDriver) {
+        this.mobileDriver = mobileDriver;
+    }
+
+    /**
+     * @return device leased from {@link DevicePool}, or null if device pool is
+     * not used
+     */
+    public DevicePool.Device getDevice() {
+        return device;
+    }
+
+    /**
+     * @param device the device to set
+     */
+    public void setDevice(DevicePool.Device device) {
+        this.device = device;
+    }
+
+    /**
+     * @return the deviceUdId
+     */
+    public String getDeviceUdId() {
+        return deviceUdId;
+    }
+
+    /**
+     * @param deviceUdId the deviceUdId to set
+     */
+    public void setDeviceUdId(String deviceUdId) {
+        this.deviceUdId = deviceUdId;
+    }
+
+    /**
+     * @return input method of the device known to be active, or null if it is
+     * not known yet
+     */
+    public String getActiveIme() {
+        return activeIme;
+    }
+
+    /**
+     * @param activeIme the activeIme to set, null to verify it on the device
+     */
+    public void setActiveIme(String activeIme) {
+        this.activeIme = activeIme;
+    }
+
+    /**
+     * @return window handles known before the last captured click, or null
+     * if they are not captured yet
+     */
+    public Set<String> getWindowHandles() {
+        return windowHandles;
+    }
+
+    /**
+     * @param windowHandles the windowHandles to set, null to reset
+     */
+    public void setWindowHandles(Set<String> windowHandles) {
+        this.windowHandles = windowHandles;
+    }
+
+    /**
+     * @return block the current action is being executed in, or null if
+     * action is being executed on the page
+     */
+    public WebElement getUsedBlock() {
+        return usedBlock;
+    }
+
+    /**
+     * @param usedBlock the usedBlock to set, null to reset
+     */
+    public void setUsedBlock(WebElement usedBlock) {
+        this.usedBlock = usedBlock;
+    }
+
+    /**
+     * @return the scenario
+     */
+    public Scenario getScenario() {
+        return scenario;
+    }
+
+    /**
+     * @param scenario the scenario to set
+     */
+    public void setScenario(Scenario scenario) {
+        this.scenario = scenario;
+    }
+
+    /**
+     * @return the locale
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * @param locale the locale to set
+     */
+    public void setLocale(Locale locale) {
+        this.locale = locale;
+    }
+
+    /**
+     * @return the dataContainer
+     */
+    public TestDataObject getDataContainer() {
+        return dataContainer;
+    }
+
+    /**
+     * @param dataContainer the dataContainer to set
+     */
+    public void setDataContainer(TestDataObject dataContainer) {
+        this.dataContainer = dataContainer;
+    }
+
+    /**
+     * @return the configCollection
+     */
+    public String getConfigCollection() {
+        return configCollection;
+    }
+
+    /**
+     * @param configCollection the configCollection to set
+     */
+    public void setConfigCollection(String configCollection) {
+        this.configCollection = configCollection;
+    }
+}
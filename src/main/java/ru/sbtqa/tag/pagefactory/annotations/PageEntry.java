@@ -20,4 +20,46 @@ public @interface PageEntry {
      * @return TODO
      */
     public String url() default "";
+
+    /**
+     * Period in milliseconds without network requests, short timers and
+     * animation frames the page should stay for to be considered loaded.
+     * Negative value means {@code page.load.quiet.period} property
+     *
+     * @return quiet period in milliseconds
+     */
+    public long quietPeriod() default -1;
+
+    /**
+     * Activity tracked by page load wait: xhr, fetch, timers, raf. Empty
+     * means {@code page.load.trackers} property, "none" means document state
+     * only
+     *
+     * @return tracked activity
+     */
+    public String[] trackers() default {};
+
+    /**
+     * Titles of elements that should be displayed when the page is ready.
+     * Checked when page is being initialized by its title
+     *
+     * @return element titles
+     */
+    public String[] readyElements() default {};
+
+    /**
+     * JavaScript regular expression the whole url of the ready page should
+     * match
+     *
+     * @return url pattern
+     */
+    public String readyUrl() default "";
+
+    /**
+     * Whether page is ready only after tracked activity is quiet. See
+     * {@link #quietPeriod()} and {@link #trackers()}
+     *
+     * @return true to wait for network idle
+     */
+    public boolean networkIdle() default false;
 }
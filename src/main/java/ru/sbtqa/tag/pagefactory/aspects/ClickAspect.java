@@ -3,14 +3,11 @@ package ru.sbtqa.tag.pagefactory.aspects;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.openqa.selenium.Dimension;
-import org.openqa.selenium.JavascriptExecutor;
-import org.openqa.selenium.Point;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
-import ru.sbtqa.tag.datajack.Stash;
 import ru.sbtqa.tag.pagefactory.Page;
 import ru.sbtqa.tag.pagefactory.PageFactory;
+import ru.sbtqa.tag.pagefactory.SessionContext;
 import ru.sbtqa.tag.pagefactory.drivers.TagWebDriver;
 import ru.sbtqa.tag.pagefactory.extensions.WebExtension;
 import ru.sbtqa.tag.pagefactory.support.Environment;
@@ -20,6 +17,10 @@ import ru.yandex.qatools.htmlelements.element.TypifiedElement;
 @Aspect
 public class ClickAspect {
 
+    private static final boolean VIDEO_HIGHLIGHT_ENABLED = Boolean.valueOf(Props.get("video.highlight.enabled"));
+    private static final boolean IS_IE = "IE".equals(TagWebDriver.getBrowserName());
+    private static final boolean IS_MOVE_TO_ELEMENT = IS_IE || "Chrome".equals(TagWebDriver.getBrowserName());
+
     @Around("call(* org.openqa.selenium.WebElement.click()) || call(* ru.yandex.qatools.htmlelements.element.*.click())")
     public void doAroundClick(ProceedingJoinPoint joinPoint) throws Throwable {
         WebElement targetWebElement = null;
@@ -34,40 +35,24 @@ public class ClickAspect {
 
         Class<? extends Page> elementRedirect = PageFactory.getInstance().getCurrentPage().getElementRedirect(targetWebElement);
 
+        boolean isWeb = PageFactory.getEnvironment() == Environment.WEB;
+        boolean isClickAdjusted = isWeb && !PageFactory.isAspectsDisabled();
+        boolean isScrollNeeded = isClickAdjusted && IS_IE;
+
         String elementHighlightStyle = null;
-        boolean isVideoHighlightEnabled = Boolean.valueOf(Props.get("video.highlight.enabled"));
-        if (isVideoHighlightEnabled) {
-            elementHighlightStyle = WebExtension.highlightElementOn(targetWebElement);
+        if (VIDEO_HIGHLIGHT_ENABLED || isScrollNeeded) {
+            elementHighlightStyle = WebExtension.prepareClick(targetWebElement, VIDEO_HIGHLIGHT_ENABLED, isScrollNeeded);
         }
 
-        if (PageFactory.getEnvironment() == Environment.WEB) {
-            Stash.put("beforeClickHandles", PageFactory.getWebDriver().getWindowHandles());
+        if (isWeb && SessionContext.getCurrent().getWindowHandles() == null) {
+            WebExtension.captureWindowHandles();
         }
 
-        if (!PageFactory.isAspectsDisabled()) {
-            Actions actions = new Actions(PageFactory.getWebDriver());
-            if ("IE".equals(TagWebDriver.getBrowserName())) {
-                Dimension size = PageFactory.getWebDriver().manage().window().getSize();
-                Point elementLocation = (targetWebElement).getLocation();
-                Dimension elementSize = (targetWebElement).getSize();
-                //scroll to invisible element
-                if (size.getHeight() < (elementLocation.getY() + elementSize.getHeight() + 200)) {
-                    ((JavascriptExecutor) PageFactory.getWebDriver()).
-                            executeScript("window.scroll(" + elementLocation.getX() + ","
-                                    + (elementLocation.getY() - 200) + ");");
-                }
-            }
-
-            switch (TagWebDriver.getBrowserName()) {
-                case "Chrome":
-                case "IE":
-                    actions.moveToElement(targetWebElement);
-                    actions.click();
-                    actions.build().perform();
-                    break;
-                default:
-                    joinPoint.proceed();
-            }
+        if (isClickAdjusted && IS_MOVE_TO_ELEMENT) {
+            Actions actions = PageFactory.getActions();
+            actions.moveToElement(targetWebElement);
+            actions.click();
+            actions.build().perform();
         } else {
             joinPoint.proceed();
         }
@@ -76,7 +61,7 @@ public class ClickAspect {
             PageFactory.getInstance().getPage(elementRedirect);
         }
 
-        if (isVideoHighlightEnabled) {
+        if (VIDEO_HIGHLIGHT_ENABLED) {
             WebExtension.highlightElementOff(targetWebElement, elementHighlightStyle);
         }
     }
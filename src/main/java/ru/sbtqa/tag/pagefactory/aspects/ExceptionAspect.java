@@ -1,11 +1,15 @@
 package ru.sbtqa.tag.pagefactory.aspects;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import ru.sbtqa.tag.pagefactory.Page;
 import ru.sbtqa.tag.pagefactory.PageFactory;
+import ru.sbtqa.tag.pagefactory.annotations.ActionTitle;
+import ru.sbtqa.tag.pagefactory.annotations.ActionTitles;
 import ru.sbtqa.tag.pagefactory.annotations.ElementTitle;
 import ru.sbtqa.tag.pagefactory.exceptions.FactoryRuntimeException;
 import ru.sbtqa.tag.pagefactory.exceptions.PageInitializationException;
@@ -23,15 +27,42 @@ public class ExceptionAspect {
 
     static long lastFailureTimestamp = 0;
 
+    /**
+     * Titles of page fields annotated with {@link ElementTitle} mapped to the
+     * accessible fields, collected once per page class
+     */
+    private static final ClassValue<Map<Field, String>> FIELD_TITLES = new ClassValue<Map<Field, String>>() {
+        @Override
+        protected Map<Field, String> computeValue(Class<?> type) {
+            Map<Field, String> titles = new LinkedHashMap<>();
+            for (Field field : type.getDeclaredFields()) {
+                ElementTitle title = field.getAnnotation(ElementTitle.class);
+                if (title != null) {
+                    field.setAccessible(true);
+                    titles.put(field, title.value());
+                }
+            }
+            return titles;
+        }
+    };
+
     /**
      * <p>
      * translateException.</p>
+     * Applied only at step definition and page action boundaries: public
+     * methods of {@link ru.sbtqa.tag.stepdefs.SetupSteps} and its subclasses,
+     * methods annotated with cucumber step or hook annotations, and methods
+     * annotated with {@link ActionTitle} or {@link ActionTitles}. Helper
+     * methods called from inside of a step are not translated
      *
      * @param joinPoint a {@link org.aspectj.lang.ProceedingJoinPoint} object.
      * @return a {@link java.lang.Object} object.
      * @throws java.lang.Throwable if any.
      */
-    @Around("execution(* *..*(..))")
+    @Around("execution(public * ru.sbtqa.tag.stepdefs.SetupSteps+.*(..))"
+            + " || execution(@(cucumber.api.java..*) * *(..))"
+            + " || execution(@ru.sbtqa.tag.pagefactory.annotations.ActionTitle * *(..))"
+            + " || execution(@ru.sbtqa.tag.pagefactory.annotations.ActionTitles * *(..))")
     public Object translateException(ProceedingJoinPoint joinPoint) throws Throwable {
         try {
             Object result = joinPoint.proceed();
@@ -48,23 +79,16 @@ public class ExceptionAspect {
     private String getErrorText(Throwable throwMessage) throws PageInitializationException, IllegalArgumentException, IllegalAccessException {
         String errorText = throwMessage.getCause() != null ? throwMessage.getCause().getMessage() : throwMessage.getMessage();
 
-        Field[] fields = PageFactory.getInstance().getCurrentPage().getClass().getDeclaredFields();
-
-        for (Field field : fields) {
-            field.setAccessible(true);
-
-            Object currentObject = null;
-            if (PageFactory.getInstance().getCurrentPage() != null) {
-                currentObject = field.get(PageFactory.getInstance().getCurrentPage());
-            }
+        Page currentPage = PageFactory.getInstance().getCurrentPage();
+        String message = throwMessage.getMessage();
+        if (message == null) {
+            return errorText;
+        }
 
-            if (null != currentObject && throwMessage.getMessage().contains(field.getName())) {
-                for (Annotation annotation : field.getAnnotations()) {
-                    if (annotation instanceof ElementTitle) {
-                        errorText = "There is no element with title == " + ((ElementTitle) annotation).value();
-                        break;
-                    }
-                }
+        for (Map.Entry<Field, String> fieldTitle : FIELD_TITLES.get(currentPage.getClass()).entrySet()) {
+            Field field = fieldTitle.getKey();
+            if (message.contains(field.getName()) && null != field.get(currentPage)) {
+                errorText = "There is no element with title == " + fieldTitle.getValue();
             }
         }
 
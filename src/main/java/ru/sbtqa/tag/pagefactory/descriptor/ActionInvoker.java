@@ -0,0 +1,85 @@
+package ru.sbtqa.tag.pagefactory.descriptor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import org.apache.commons.lang3.ClassUtils;
+import ru.sbtqa.tag.pagefactory.exceptions.FactoryRuntimeException;
+
+/**
+ * Precompiled invoker of a page or block action, i.e. a method with
+ * {@link ru.sbtqa.tag.pagefactory.annotations.ActionTitle} annotation
+ */
+public class ActionInvoker {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final Method method;
+    private final Class<?>[] parameterTypes;
+    private final MethodHandle invoker;
+
+    ActionInvoker(Method method) {
+        this.method = method;
+        this.parameterTypes = method.getParameterTypes();
+        method.setAccessible(true);
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            this.invoker = handle.asSpreader(Object[].class, parameterTypes.length).asType(INVOKER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new FactoryRuntimeException("Failed to create invoker for method '" + method + "'", e);
+        }
+    }
+
+    /**
+     * @return invoked method
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Check whether method could be called with given arguments without any
+     * conversions
+     *
+     * @param args arguments to check
+     * @return true|false
+     */
+    public boolean isApplicable(Object[] args) {
+        if (args.length != parameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] == null) {
+                if (parameterTypes[i].isPrimitive()) {
+                    return false;
+                }
+            } else if (!ClassUtils.primitiveToWrapper(parameterTypes[i]).isInstance(args[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Invoke method on the given object
+     *
+     * @param target object to invoke method on
+     * @param args method arguments. Must be applicable, see
+     * {@link #isApplicable(Object[])}
+     * @return method result or null for void methods
+     * @throws InvocationTargetException if the invoked method throws anything
+     */
+    public Object invoke(Object target, Object[] args) throws InvocationTargetException {
+        try {
+            return (Object) invoker.invokeExact(target, args);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+}
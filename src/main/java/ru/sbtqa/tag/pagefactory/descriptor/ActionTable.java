@@ -0,0 +1,94 @@
+package ru.sbtqa.tag.pagefactory.descriptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import ru.sbtqa.tag.pagefactory.annotations.ActionTitle;
+import ru.sbtqa.tag.pagefactory.annotations.ActionTitles;
+import ru.sbtqa.tag.qautils.i18n.I18N;
+
+/**
+ * Dispatch table of page or block actions keyed by translated action title
+ */
+public class ActionTable {
+
+    private final Locale locale;
+    private final Map<String, List<ActionInvoker>> actions;
+
+    ActionTable(List<ActionInvoker> invokers, Locale locale) {
+        this.locale = locale;
+
+        Map<String, List<ActionInvoker>> titled = new HashMap<>();
+        for (ActionInvoker invoker : invokers) {
+            I18N i18n = I18nRegistry.getI18n(invoker.getMethod().getDeclaringClass(), locale);
+
+            for (ActionTitle action : getActionTitles(invoker)) {
+                String title = (i18n != null) ? i18n.get(action.value()) : action.value();
+                List<ActionInvoker> sameTitle = titled.get(title);
+                if (sameTitle == null) {
+                    sameTitle = new ArrayList<>(1);
+                    titled.put(title, sameTitle);
+                }
+                if (!sameTitle.contains(invoker)) {
+                    sameTitle.add(invoker);
+                }
+            }
+        }
+        this.actions = Collections.unmodifiableMap(titled);
+    }
+
+    private static List<ActionTitle> getActionTitles(ActionInvoker invoker) {
+        List<ActionTitle> actionList = new ArrayList<>();
+        ActionTitles actionTitles = invoker.getMethod().getAnnotation(ActionTitles.class);
+        if (actionTitles != null) {
+            actionList.addAll(Arrays.asList(actionTitles.value()));
+        }
+        ActionTitle actionTitle = invoker.getMethod().getAnnotation(ActionTitle.class);
+        if (actionTitle != null) {
+            actionList.add(actionTitle);
+        }
+        return actionList;
+    }
+
+    /**
+     * @return locale, the titles of this table were translated for
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Get all actions with required title
+     *
+     * @param title translated action title
+     * @return actions in declaration order. could be empty list
+     */
+    public List<ActionInvoker> getActions(String title) {
+        List<ActionInvoker> titled = actions.get(title);
+        return titled != null ? titled : Collections.<ActionInvoker>emptyList();
+    }
+
+    /**
+     * Find action with required title that accepts given arguments
+     *
+     * @param title translated action title
+     * @param args action arguments
+     * @return action or null if there is no action with such title and
+     * signature
+     */
+    public ActionInvoker getAction(String title, Object[] args) {
+        List<ActionInvoker> titled = actions.get(title);
+        if (titled != null) {
+            for (int i = 0; i < titled.size(); i++) {
+                if (titled.get(i).isApplicable(args)) {
+                    return titled.get(i);
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,97 @@
+package ru.sbtqa.tag.pagefactory.descriptor;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import ru.sbtqa.tag.pagefactory.annotations.ElementTitle;
+import ru.yandex.qatools.htmlelements.element.HtmlElement;
+
+/**
+ * Block path like {@code Header->Menu->Item} compiled into accessor chains
+ * for a page or block class. Every block of the path except the last one
+ * should be declared directly in the previous one, the last block is being
+ * searched through all nested blocks
+ */
+public class BlockPath {
+
+    /**
+     * Delimiter of blocks in the block path
+     */
+    public static final String DELIMITER = "->";
+
+    private final String path;
+    private final List<List<ElementAccessor>> chains = new ArrayList<>();
+
+    BlockPath(Class<?> type, String path) {
+        this.path = path;
+        String[] blockChain = path.split(DELIMITER);
+        compile(type, blockChain, 0, new ArrayList<ElementAccessor>(), new HashSet<Class<?>>());
+    }
+
+    private void compile(Class<?> type, String[] blockChain, int index, List<ElementAccessor> prefix, Set<Class<?>> visited) {
+        if (!visited.add(type)) {
+            return;
+        }
+
+        boolean isLast = index == blockChain.length - 1;
+        for (Field field : PageRegistry.getDescriptor(type).getBlocks()) {
+            ElementTitle title = field.getAnnotation(ElementTitle.class);
+            if (title == null) {
+                continue;
+            }
+
+            List<ElementAccessor> chain = new ArrayList<>(prefix);
+            chain.add(new ElementAccessor(field));
+            if (title.value().equals(blockChain[index])) {
+                if (isLast) {
+                    chains.add(Collections.unmodifiableList(chain));
+                } else {
+                    compile(field.getType(), blockChain, index + 1, chain, new HashSet<Class<?>>());
+                }
+            } else if (isLast) {
+                compile(field.getType(), blockChain, index, chain, visited);
+            }
+        }
+
+        visited.remove(type);
+    }
+
+    /**
+     * @return source block path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Find blocks by this path in the given context. Chains that meet a
+     * not initialized block are skipped
+     *
+     * @param context instance of the class this path was compiled for
+     * @param returnFirstFound whether the search should be stopped on a first
+     * found block
+     * @return list of found blocks in field declaration order. could be empty
+     */
+    public List<HtmlElement> resolve(Object context, boolean returnFirstFound) {
+        List<HtmlElement> found = new ArrayList<>();
+        for (List<ElementAccessor> chain : chains) {
+            Object block = context;
+            for (ElementAccessor accessor : chain) {
+                block = accessor.get(block);
+                if (block == null) {
+                    break;
+                }
+            }
+            if (block != null) {
+                found.add((HtmlElement) block);
+                if (returnFirstFound) {
+                    return found;
+                }
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,60 @@
+package ru.sbtqa.tag.pagefactory.descriptor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import ru.sbtqa.tag.pagefactory.exceptions.FactoryRuntimeException;
+
+/**
+ * Precompiled getter of a page or block field. Accessor is created once per
+ * field, so element lookups don't need {@link Field#setAccessible(boolean)}
+ * and reflective {@link Field#get(Object)} calls
+ */
+public class ElementAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Field field;
+    private final MethodHandle getter;
+
+    ElementAccessor(Field field) {
+        this.field = field;
+        field.setAccessible(true);
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            this.getter = handle.asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new FactoryRuntimeException("Failed to create accessor for field '" + field + "'", e);
+        }
+    }
+
+    /**
+     * @return accessed field
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Get field value of the given object
+     *
+     * @param target object that declares (or inherits) the field
+     * @return field value
+     * @throws ClassCastException if target is not an instance of the class
+     * declaring the field
+     */
+    public Object get(Object target) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new FactoryRuntimeException("Failed to get value of field '" + field + "'", e);
+        }
+    }
+}
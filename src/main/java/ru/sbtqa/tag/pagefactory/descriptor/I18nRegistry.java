@@ -0,0 +1,82 @@
+package ru.sbtqa.tag.pagefactory.descriptor;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.sbtqa.tag.qautils.i18n.I18N;
+import ru.sbtqa.tag.qautils.i18n.I18NRuntimeException;
+
+/**
+ * JVM-wide cache of translation bundles of page and block classes. Each
+ * bundle is being loaded once per (class, locale) pair. Missing bundles are
+ * recorded too, so that lookup is not repeated for them
+ */
+public class I18nRegistry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(I18nRegistry.class);
+
+    private static final Map<BundleKey, I18N> BUNDLES = new ConcurrentHashMap<>();
+    private static final Set<BundleKey> MISSING_BUNDLES = Collections.newSetFromMap(new ConcurrentHashMap<BundleKey, Boolean>());
+
+    private I18nRegistry() {
+    }
+
+    /**
+     * Get translation bundle of the class
+     *
+     * @param type class to get bundle for
+     * @param locale bundle locale
+     * @return bundle or null if class has no bundle for the locale
+     */
+    public static I18N getI18n(Class<?> type, Locale locale) {
+        BundleKey key = new BundleKey(type, locale);
+        I18N i18n = BUNDLES.get(key);
+        if (i18n != null || MISSING_BUNDLES.contains(key)) {
+            return i18n;
+        }
+
+        try {
+            i18n = I18N.getI18n(type, locale);
+        } catch (I18NRuntimeException e) {
+            if (MISSING_BUNDLES.add(key)) {
+                LOG.debug("There is no {} bundle for translation class {}. Leave it as is", locale, type.getName(), e);
+            }
+            return null;
+        }
+        I18N previous = BUNDLES.putIfAbsent(key, i18n);
+        return previous != null ? previous : i18n;
+    }
+
+    private static final class BundleKey {
+
+        private final Class<?> type;
+        private final Locale locale;
+
+        BundleKey(Class<?> type, Locale locale) {
+            this.type = type;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BundleKey)) {
+                return false;
+            }
+            BundleKey other = (BundleKey) o;
+            return type == other.type && Objects.equals(locale, other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + Objects.hashCode(locale);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package ru.sbtqa.tag.pagefactory.descriptor;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.openqa.selenium.WebElement;
+import ru.sbtqa.tag.pagefactory.Page;
+import ru.sbtqa.tag.pagefactory.ScenarioContext;
+import ru.sbtqa.tag.pagefactory.annotations.ActionTitle;
+import ru.sbtqa.tag.pagefactory.annotations.ActionTitles;
+import ru.sbtqa.tag.pagefactory.annotations.ElementTitle;
+import ru.sbtqa.tag.pagefactory.annotations.RedirectsTo;
+import ru.sbtqa.tag.pagefactory.annotations.ValidationRule;
+import ru.sbtqa.tag.qautils.reflect.FieldUtilsExt;
+import ru.yandex.qatools.htmlelements.annotations.Name;
+import ru.yandex.qatools.htmlelements.element.HtmlElement;
+
+/**
+ * Reflection metadata of a page object or a block: element fields, actions,
+ * redirects and validation rules. Descriptor is immutable and is built only
+ * once per class, so it could be shared between scenarios and threads. Use
+ * {@link PageRegistry} to get one
+ */
+public class PageDescriptor {
+
+    private final Class<?> type;
+    private final Map<Field, String> fields;
+    private final List<ElementAccessor> fieldAccessors;
+    private final Map<String, List<ElementAccessor>> elements;
+    private final Map<String, List<ElementAccessor>> blockElements;
+    private final List<Field> blocks;
+    private final Map<Field, Class<? extends Page>> redirects;
+    private volatile RedirectTable redirectTable;
+    private final Map<String, BlockPath> blockPaths = new ConcurrentHashMap<>();
+    private final List<ActionInvoker> actions;
+    private final Map<Locale, ActionTable> actionTables = new ConcurrentHashMap<>();
+    private final Map<String, Method> validationRules;
+
+    PageDescriptor(Class<?> type) {
+        this.type = type;
+
+        Map<Field, String> webElements = new LinkedHashMap<>();
+        List<ElementAccessor> webElementAccessors = new ArrayList<>();
+        List<Field> htmlElements = new ArrayList<>();
+        Map<Field, Class<? extends Page>> redirectFields = new LinkedHashMap<>();
+        Map<String, List<ElementAccessor>> titledElements = new HashMap<>();
+        Map<String, List<ElementAccessor>> namedElements = new HashMap<>();
+        for (Field field : FieldUtilsExt.getDeclaredFieldsWithInheritance(type)) {
+            field.setAccessible(true);
+            String title = getFieldTitle(field);
+            String titleInBlock = getFieldTitleInBlock(field);
+            boolean isWebElement = field.getType().equals(WebElement.class);
+            if (title != null || titleInBlock != null || isWebElement) {
+                ElementAccessor accessor = new ElementAccessor(field);
+                if (isWebElement) {
+                    webElementAccessors.add(accessor);
+                }
+                if (title != null) {
+                    addAccessor(titledElements, title, accessor);
+                }
+                if (titleInBlock != null) {
+                    addAccessor(namedElements, titleInBlock, accessor);
+                }
+            }
+            if (isWebElement) {
+                ElementTitle titleAnnotation = field.getAnnotation(ElementTitle.class);
+                webElements.put(field, titleAnnotation != null ? titleAnnotation.value() : field.getName());
+            }
+            if (HtmlElement.class.isAssignableFrom(field.getType())) {
+                htmlElements.add(field);
+            }
+            RedirectsTo redirect = field.getAnnotation(RedirectsTo.class);
+            if (redirect != null) {
+                redirectFields.put(field, redirect.page());
+            }
+        }
+        this.fields = Collections.unmodifiableMap(webElements);
+        this.fieldAccessors = Collections.unmodifiableList(webElementAccessors);
+        this.elements = Collections.unmodifiableMap(titledElements);
+        this.blockElements = Collections.unmodifiableMap(namedElements);
+        this.blocks = Collections.unmodifiableList(htmlElements);
+        this.redirects = Collections.unmodifiableMap(redirectFields);
+
+        List<ActionInvoker> actionMethods = new ArrayList<>();
+        for (Method method : getDeclaredMethods(type)) {
+            if (method.getAnnotation(ActionTitle.class) != null || method.getAnnotation(ActionTitles.class) != null) {
+                actionMethods.add(new ActionInvoker(method));
+            }
+        }
+        this.actions = Collections.unmodifiableList(actionMethods);
+
+        Map<String, Method> rules = new HashMap<>();
+        for (Method method : type.getMethods()) {
+            ValidationRule rule = method.getAnnotation(ValidationRule.class);
+            if (rule != null && !rules.containsKey(rule.title())) {
+                rules.put(rule.title(), method);
+            }
+        }
+        this.validationRules = Collections.unmodifiableMap(rules);
+    }
+
+    private static void addAccessor(Map<String, List<ElementAccessor>> accessors, String title, ElementAccessor accessor) {
+        List<ElementAccessor> titled = accessors.get(title);
+        if (titled == null) {
+            titled = new ArrayList<>(1);
+            accessors.put(title, titled);
+        }
+        titled.add(accessor);
+    }
+
+    /**
+     * Return value of {@link ElementTitle} annotation for the field
+     *
+     * @param field field to check
+     * @return element title or null if there is no annotation
+     */
+    private static String getFieldTitle(Field field) {
+        ElementTitle title = field.getAnnotation(ElementTitle.class);
+        return title != null ? title.value() : null;
+    }
+
+    /**
+     * Return value of {@link Name} or {@link ElementTitle} annotation for the
+     * field, whichever is declared first
+     *
+     * @param field field to check
+     * @return element title or null if there are no annotations
+     */
+    private static String getFieldTitleInBlock(Field field) {
+        for (Annotation a : field.getAnnotations()) {
+            if (a instanceof Name) {
+                return ((Name) a).value();
+            }
+            if (a instanceof ElementTitle) {
+                return ((ElementTitle) a).value();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Return a list of methods declared in the given class and its super
+     * classes
+     *
+     * @param clazz class to check
+     * @return list of methods. could be empty list
+     */
+    private static List<Method> getDeclaredMethods(Class<?> clazz) {
+        List<Method> methods = new ArrayList<>();
+        Class<?> supp = clazz;
+        while (supp != null && supp != Object.class) {
+            methods.addAll(Arrays.asList(supp.getDeclaredMethods()));
+            supp = supp.getSuperclass();
+        }
+        return methods;
+    }
+
+    /**
+     * @return described class
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return fields of {@link WebElement} type mapped to their
+     * {@link ElementTitle} value, or to the field name if there is no title
+     */
+    public Map<Field, String> getFields() {
+        return fields;
+    }
+
+    /**
+     * @return accessors of {@link #getFields()} in field declaration order
+     */
+    public List<ElementAccessor> getFieldAccessors() {
+        return fieldAccessors;
+    }
+
+    /**
+     * Get accessor of the first field with required {@link ElementTitle}
+     *
+     * @param title value of ElementTitle annotation of required element
+     * @return accessor or null if there is no such element
+     */
+    public ElementAccessor getElement(String title) {
+        List<ElementAccessor> titled = elements.get(title);
+        return titled != null ? titled.get(0) : null;
+    }
+
+    /**
+     * Get accessors of all fields with required {@link ElementTitle}
+     *
+     * @param title value of ElementTitle annotation of required element
+     * @return accessors in field declaration order. could be empty list
+     */
+    public List<ElementAccessor> getElements(String title) {
+        List<ElementAccessor> titled = elements.get(title);
+        return titled != null ? titled : Collections.<ElementAccessor>emptyList();
+    }
+
+    /**
+     * Get accessor of the first field with required {@link Name} or
+     * {@link ElementTitle}. Used to find elements inside of the blocks
+     *
+     * @param title value of Name or ElementTitle annotation of required
+     * element
+     * @return accessor or null if there is no such element
+     */
+    public ElementAccessor getBlockElement(String title) {
+        List<ElementAccessor> titled = blockElements.get(title);
+        return titled != null ? titled.get(0) : null;
+    }
+
+    /**
+     * @return fields of {@link HtmlElement} type and its derivatives
+     */
+    public List<Field> getBlocks() {
+        return blocks;
+    }
+
+    /**
+     * @return fields with {@link RedirectsTo} annotation mapped to the target
+     * page class
+     */
+    public Map<Field, Class<? extends Page>> getRedirects() {
+        return redirects;
+    }
+
+    /**
+     * Get block path compiled for this class. Each path is being compiled
+     * only once
+     *
+     * @param path full path or just a name of the block
+     * @return compiled block path
+     */
+    public BlockPath getBlockPath(String path) {
+        BlockPath blockPath = blockPaths.get(path);
+        if (blockPath == null) {
+            blockPath = blockPaths.computeIfAbsent(path, p -> new BlockPath(type, p));
+        }
+        return blockPath;
+    }
+
+    /**
+     * Get redirects of the page together with redirects of its nested blocks.
+     * Table is being built on the first request, as it needs descriptors of
+     * the blocks
+     *
+     * @return redirect table
+     */
+    public RedirectTable getRedirectTable() {
+        RedirectTable table = redirectTable;
+        if (table == null) {
+            table = new RedirectTable(type);
+            redirectTable = table;
+        }
+        return table;
+    }
+
+    /**
+     * @return invokers of methods with {@link ActionTitle} or
+     * {@link ActionTitles} annotation declared in the class and its super
+     * classes
+     */
+    public List<ActionInvoker> getActions() {
+        return actions;
+    }
+
+    /**
+     * Get action dispatch table with titles translated to the language of
+     * the current scenario
+     *
+     * @return action table
+     */
+    public ActionTable getActionTable() {
+        return getActionTable(ScenarioContext.getLocale());
+    }
+
+    /**
+     * Get action dispatch table with titles translated to the required
+     * language. Table is being built once per locale
+     *
+     * @param locale language of action titles
+     * @return action table
+     */
+    public ActionTable getActionTable(Locale locale) {
+        ActionTable table = actionTables.get(locale);
+        if (table == null) {
+            table = actionTables.computeIfAbsent(locale, l -> new ActionTable(actions, l));
+        }
+        return table;
+    }
+
+    /**
+     * Get public method with {@link ValidationRule} annotation of required
+     * title
+     *
+     * @param title title of the validation rule
+     * @return method or null if there is no such rule
+     */
+    public Method getValidationRule(String title) {
+        return validationRules.get(title);
+    }
+}
@@ -0,0 +1,138 @@
+package ru.sbtqa.tag.pagefactory.descriptor;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.reflections.Reflections;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.sbtqa.tag.pagefactory.Page;
+import ru.sbtqa.tag.pagefactory.exceptions.FactoryRuntimeException;
+import ru.sbtqa.tag.qautils.reflect.ClassUtilsExt;
+import ru.yandex.qatools.htmlelements.element.HtmlElement;
+
+/**
+ * JVM-wide registry of {@link PageDescriptor}'s. Pages package is being
+ * scanned only once, descriptors are built in parallel and then shared by
+ * all scenarios
+ */
+public class PageRegistry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PageRegistry.class);
+
+    private static final Map<Class<?>, PageDescriptor> DESCRIPTORS = new ConcurrentHashMap<>();
+    private static final Map<Class<? extends Page>, Map<Field, String>> PAGES_REPOSITORY = new ConcurrentHashMap<>();
+    private static final Set<String> REGISTERED_PACKAGES = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private static final Set<Locale> REGISTERED_LOCALES = Collections.newSetFromMap(new ConcurrentHashMap<Locale, Boolean>());
+
+    private PageRegistry() {
+    }
+
+    /**
+     * Get descriptor of the page or block class. Descriptor is being built on
+     * the first request if class was not registered yet
+     *
+     * @param type page or block class
+     * @return class descriptor
+     */
+    public static PageDescriptor getDescriptor(Class<?> type) {
+        PageDescriptor descriptor = DESCRIPTORS.get(type);
+        if (descriptor == null) {
+            descriptor = DESCRIPTORS.computeIfAbsent(type, PageDescriptor::new);
+        }
+        return descriptor;
+    }
+
+    /**
+     * Scan package for page objects and blocks and register their
+     * descriptors. Each package is being scanned only once per JVM
+     *
+     * @param packageName package to scan
+     * @throws FactoryRuntimeException if package contains classes that are
+     * neither pages nor blocks
+     */
+    public static void registerPackage(String packageName) {
+        if (REGISTERED_PACKAGES.contains(packageName)) {
+            return;
+        }
+
+        synchronized (PageRegistry.class) {
+            if (REGISTERED_PACKAGES.contains(packageName)) {
+                return;
+            }
+
+            Reflections reflections = new Reflections(packageName);
+            Collection<String> allClassesString = reflections.getStore().get("SubTypesScanner").values();
+            Set<Class<?>> allClasses = new HashSet<>();
+            for (String clazz : allClassesString) {
+                try {
+                    allClasses.add(Class.forName(clazz));
+                } catch (ClassNotFoundException e) {
+                    LOG.warn("Cannot add all classes to set from package storage", e);
+                }
+            }
+
+            Set<Class<?>> pages = new HashSet<>();
+            for (Class<?> page : allClasses) {
+                List<Class> supers = ClassUtilsExt.getSuperclassesWithInheritance(page);
+                if (!supers.contains(Page.class) && !supers.contains(HtmlElement.class)) {
+                    if (page.getName().contains("$")) {
+                        continue; //We allow private additional classes but skip it if its not extends Page
+                    } else {
+                        throw new FactoryRuntimeException("Class " + page.getName() + " is not extended from Page class. Check you webdriver.pages.package property.");
+                    }
+                }
+                pages.add(page);
+            }
+
+            pages.parallelStream().forEach(PageRegistry::register);
+            for (Locale locale : REGISTERED_LOCALES) {
+                pages.parallelStream().forEach(page -> getDescriptor(page).getActionTable(locale));
+            }
+            REGISTERED_PACKAGES.add(packageName);
+            LOG.debug("{} page objects and blocks are registered from package {}", pages.size(), packageName);
+        }
+    }
+
+    /**
+     * Translate action titles of all registered pages and blocks to the
+     * language. Each language is being registered only once per JVM, pages
+     * registered later are translated to all registered languages
+     *
+     * @param locale language of action titles
+     */
+    public static void registerLocale(Locale locale) {
+        if (REGISTERED_LOCALES.contains(locale)) {
+            return;
+        }
+
+        synchronized (PageRegistry.class) {
+            if (REGISTERED_LOCALES.contains(locale)) {
+                return;
+            }
+
+            DESCRIPTORS.values().parallelStream().forEach(descriptor -> descriptor.getActionTable(locale));
+            REGISTERED_LOCALES.add(locale);
+            LOG.debug("Action titles of {} page objects and blocks are translated to {}", DESCRIPTORS.size(), locale);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void register(Class<?> page) {
+        PAGES_REPOSITORY.put((Class<? extends Page>) page, getDescriptor(page).getFields());
+    }
+
+    /**
+     * @return read-only view of registered classes mapped to their
+     * {@link PageDescriptor#getFields()}
+     */
+    public static Map<Class<? extends Page>, Map<Field, String>> getPageRepository() {
+        return Collections.unmodifiableMap(PAGES_REPOSITORY);
+    }
+}
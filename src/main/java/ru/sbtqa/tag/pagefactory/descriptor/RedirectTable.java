@@ -0,0 +1,87 @@
+package ru.sbtqa.tag.pagefactory.descriptor;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import ru.sbtqa.tag.pagefactory.Page;
+import ru.yandex.qatools.htmlelements.element.TypifiedElement;
+
+/**
+ * Table of the fields with {@link ru.sbtqa.tag.pagefactory.annotations.RedirectsTo}
+ * annotation of a page, including the fields of its nested blocks. Each
+ * field is stored as a path of accessors from the page to the field, mapped
+ * to the page it redirects to
+ */
+public class RedirectTable {
+
+    private final List<List<ElementAccessor>> paths = new ArrayList<>();
+    private final List<Class<? extends Page>> targets = new ArrayList<>();
+
+    RedirectTable(Class<?> type) {
+        collect(type, new ArrayList<ElementAccessor>(), new HashSet<Class<?>>());
+    }
+
+    /**
+     * Walk through redirects of the class and then through its blocks, the
+     * same order the redirects were searched in before
+     */
+    private void collect(Class<?> type, List<ElementAccessor> prefix, Set<Class<?>> visited) {
+        if (!visited.add(type)) {
+            return;
+        }
+
+        PageDescriptor descriptor = PageRegistry.getDescriptor(type);
+        for (Map.Entry<Field, Class<? extends Page>> redirect : descriptor.getRedirects().entrySet()) {
+            List<ElementAccessor> path = new ArrayList<>(prefix);
+            path.add(new ElementAccessor(redirect.getKey()));
+            paths.add(Collections.unmodifiableList(path));
+            targets.add(redirect.getValue());
+        }
+        for (Field block : descriptor.getBlocks()) {
+            List<ElementAccessor> path = new ArrayList<>(prefix);
+            path.add(new ElementAccessor(block));
+            collect(block.getType(), path, visited);
+        }
+
+        visited.remove(type);
+    }
+
+    /**
+     * Read redirect fields of the page instance. Typified elements are also
+     * mapped by their wrapped element, as it is the one being clicked
+     *
+     * @param page instance of the page this table was built for
+     * @return element instances mapped to the pages they redirect to. If
+     * several fields hold the same element, the first one wins
+     */
+    public Map<Object, Class<? extends Page>> resolve(Object page) {
+        Map<Object, Class<? extends Page>> redirects = new IdentityHashMap<>();
+        for (int i = 0; i < paths.size(); i++) {
+            Object element = page;
+            for (ElementAccessor accessor : paths.get(i)) {
+                element = accessor.get(element);
+                if (element == null) {
+                    break;
+                }
+            }
+            if (element == null) {
+                continue;
+            }
+            if (!redirects.containsKey(element)) {
+                redirects.put(element, targets.get(i));
+            }
+            if (element instanceof TypifiedElement) {
+                Object wrapped = ((TypifiedElement) element).getWrappedElement();
+                if (wrapped != null && !redirects.containsKey(wrapped)) {
+                    redirects.put(wrapped, targets.get(i));
+                }
+            }
+        }
+        return redirects;
+    }
+}
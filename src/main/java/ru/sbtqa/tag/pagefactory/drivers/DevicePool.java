@@ -0,0 +1,131 @@
+package ru.sbtqa.tag.pagefactory.drivers;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.sbtqa.tag.pagefactory.exceptions.FactoryRuntimeException;
+import ru.sbtqa.tag.qautils.properties.Props;
+
+/**
+ * Pool of mobile devices configured by {@code appium.devices} property as a
+ * comma separated list of {@code udid@appium url}. Each scenario thread
+ * leases a free device for its mobile session and releases it on dispose, so
+ * scenarios could run in parallel on all devices
+ */
+public class DevicePool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DevicePool.class);
+
+    private static final List<Device> DEVICES = parseDevices(Props.get("appium.devices", ""));
+    private static final long LEASE_TIMEOUT = Long.parseLong(Props.get("appium.devices.lease.timeout", "600000"));
+
+    private static final BlockingQueue<Device> FREE = new LinkedBlockingQueue<>(DEVICES);
+
+    private DevicePool() {
+    }
+
+    /**
+     * @return true if {@code appium.devices} is set
+     */
+    public static boolean isEnabled() {
+        return !DEVICES.isEmpty();
+    }
+
+    /**
+     * @return all configured devices
+     */
+    public static List<Device> getDevices() {
+        return DEVICES;
+    }
+
+    /**
+     * Take a free device, waiting for one to be released if all are busy
+     *
+     * @return leased device
+     * @throws FactoryRuntimeException if no device was released within
+     * {@code appium.devices.lease.timeout} milliseconds
+     */
+    public static Device lease() {
+        try {
+            Device device = FREE.poll(LEASE_TIMEOUT, TimeUnit.MILLISECONDS);
+            if (device == null) {
+                throw new FactoryRuntimeException("There is no free device after " + LEASE_TIMEOUT
+                        + " milliseconds. Check 'appium.devices' property");
+            }
+            LOG.info("Device {} is leased", device);
+            return device;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FactoryRuntimeException("Interrupted while waiting for a free device", e);
+        }
+    }
+
+    /**
+     * Return device to the pool
+     *
+     * @param device leased device
+     */
+    public static void release(Device device) {
+        LOG.info("Device {} is released", device);
+        FREE.offer(device);
+    }
+
+    private static List<Device> parseDevices(String devices) {
+        List<Device> parsed = new ArrayList<>();
+        for (String device : devices.split("\\s*,\\s*")) {
+            if (device.trim().isEmpty()) {
+                continue;
+            }
+            int delimiter = device.indexOf('@');
+            if (delimiter <= 0 || delimiter == device.length() - 1) {
+                throw new FactoryRuntimeException("Device '" + device + "' should be described as 'udid@appium url'. Check 'appium.devices' property");
+            }
+            try {
+                parsed.add(new Device(device.substring(0, delimiter).trim(), new URL(device.substring(delimiter + 1).trim())));
+            } catch (MalformedURLException e) {
+                throw new FactoryRuntimeException("Could not parse appium url of device '" + device + "'. Check 'appium.devices' property", e);
+            }
+        }
+        return Collections.unmodifiableList(parsed);
+    }
+
+    /**
+     * Device of the pool
+     */
+    public static final class Device {
+
+        private final String udid;
+        private final URL appiumUrl;
+
+        Device(String udid, URL appiumUrl) {
+            this.udid = udid;
+            this.appiumUrl = appiumUrl;
+        }
+
+        /**
+         * @return device udid
+         */
+        public String getUdid() {
+            return udid;
+        }
+
+        /**
+         * @return url of the Appium server the device is attached to
+         */
+        public URL getAppiumUrl() {
+            return appiumUrl;
+        }
+
+        @Override
+        public String toString() {
+            return udid + "@" + appiumUrl;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package ru.sbtqa.tag.pagefactory.drivers;
+
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.android.AndroidElement;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.sbtqa.tag.qautils.properties.Props;
+
+/**
+ * Keeps Appium sessions alive between scenarios. Released session gets its
+ * application state reset and is reused by the next scenario instead of
+ * starting a new session. Session is recycled after
+ * {@code appium.session.max.uses} scenarios, after a failed scenario, or if it
+ * fails reset or health check
+ */
+public class MobileSessionPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MobileSessionPool.class);
+
+    private static final boolean REUSE = Boolean.parseBoolean(Props.get("appium.session.reuse", "false"));
+    private static final int MAX_USES = Integer.parseInt(Props.get("appium.session.max.uses", "0"));
+    private static final boolean RECYCLE_ON_FAILURE = Boolean.parseBoolean(Props.get("appium.session.recycle.on.failure", "true"));
+    private static final String RESET = Props.get("appium.session.reset", "restart").toLowerCase();
+
+    private static final BlockingDeque<PooledSession> IDLE = new LinkedBlockingDeque<>();
+    private static final Map<AppiumDriver<AndroidElement>, PooledSession> LEASED = new ConcurrentHashMap<>();
+
+    static {
+        if (REUSE) {
+            Runtime.getRuntime().addShutdownHook(new Thread(MobileSessionPool::shutdown, "mobile-session-pool-shutdown"));
+        }
+    }
+
+    private MobileSessionPool() {
+    }
+
+    /**
+     * @return true if {@code appium.session.reuse} is set
+     */
+    public static boolean isEnabled() {
+        return REUSE;
+    }
+
+    /**
+     * Take a healthy idle session. Unhealthy sessions are being recycled
+     *
+     * @param deviceUDID udid of the device the session should run on, or null
+     * for any device
+     * @return idle session or null if there is no one
+     */
+    public static AppiumDriver<AndroidElement> lease(String deviceUDID) {
+        for (PooledSession pooled : IDLE) {
+            if ((deviceUDID != null && !deviceUDID.equals(pooled.deviceUDID)) || !IDLE.remove(pooled)) {
+                continue;
+            }
+            if (isHealthy(pooled.driver)) {
+                pooled.uses++;
+                LEASED.put(pooled.driver, pooled);
+                LOG.debug("Appium session {} is reused, use #{}", pooled.driver.getSessionId(), pooled.uses);
+                return pooled.driver;
+            }
+            LOG.warn("Appium session {} failed health check and will be recycled", pooled.driver.getSessionId());
+            quit(pooled.driver);
+        }
+        return null;
+    }
+
+    /**
+     * Register a new session started for the scenario
+     *
+     * @param driver new session
+     * @param deviceUDID udid of the device the session runs on
+     */
+    public static void register(AppiumDriver<AndroidElement> driver, String deviceUDID) {
+        PooledSession pooled = new PooledSession(driver, deviceUDID);
+        pooled.uses++;
+        LEASED.put(driver, pooled);
+    }
+
+    /**
+     * Return session to the pool. Application state is being reset, or
+     * session is recycled if it is worn out
+     *
+     * @param driver leased session
+     * @param failed whether the scenario that used the session has failed
+     */
+    public static void release(AppiumDriver<AndroidElement> driver, boolean failed) {
+        PooledSession pooled = LEASED.remove(driver);
+        if (pooled == null) {
+            LOG.warn("Appium session {} was not leased from the pool. Quitting it", driver.getSessionId());
+            quit(driver);
+            return;
+        }
+
+        if (MAX_USES > 0 && pooled.uses >= MAX_USES) {
+            LOG.info("Appium session {} was used {} times and will be recycled", driver.getSessionId(), pooled.uses);
+            quit(driver);
+        } else if (failed && RECYCLE_ON_FAILURE) {
+            LOG.info("Appium session {} was used in a failed scenario and will be recycled", driver.getSessionId());
+            quit(driver);
+        } else if (!reset(pooled)) {
+            quit(driver);
+        } else {
+            IDLE.offerFirst(pooled);
+        }
+    }
+
+    private static boolean isHealthy(AppiumDriver<AndroidElement> driver) {
+        try {
+            return driver.getSessionId() != null && ((AndroidDriver<AndroidElement>) driver).currentActivity() != null;
+        } catch (WebDriverException e) {
+            LOG.debug("Appium session health check failed", e);
+            return false;
+        }
+    }
+
+    /**
+     * Reset application state according to {@code appium.session.reset}:
+     * {@code clear} clears application data and starts the activity,
+     * {@code restart} restarts the application, {@code none} does nothing.
+     * Reset is performed by Appium, so it works for devices attached to a
+     * remote Appium server as well
+     *
+     * @param pooled session to reset
+     * @return true if reset succeeded
+     */
+    private static boolean reset(PooledSession pooled) {
+        AndroidDriver<AndroidElement> driver = (AndroidDriver<AndroidElement>) pooled.driver;
+        try {
+            switch (RESET) {
+                case "clear":
+                    driver.resetApp();
+                    break;
+                case "restart":
+                    driver.closeApp();
+                    driver.launchApp();
+                    break;
+                default:
+                    break;
+            }
+            return true;
+        } catch (WebDriverException e) {
+            LOG.warn("Failed to reset Appium session {}. It will be recycled", driver.getSessionId(), e);
+            return false;
+        }
+    }
+
+    private static void quit(AppiumDriver<AndroidElement> driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            LOG.warn("Failed to quit recycled Appium session", e);
+        }
+    }
+
+    private static void shutdown() {
+        PooledSession pooled;
+        while ((pooled = IDLE.pollFirst()) != null) {
+            quit(pooled.driver);
+        }
+        for (AppiumDriver<AndroidElement> driver : LEASED.keySet()) {
+            quit(driver);
+        }
+    }
+
+    private static final class PooledSession {
+
+        private final AppiumDriver<AndroidElement> driver;
+        private final String deviceUDID;
+        private int uses;
+
+        PooledSession(AppiumDriver<AndroidElement> driver, String deviceUDID) {
+            this.driver = driver;
+            this.deviceUDID = deviceUDID;
+        }
+    }
+}
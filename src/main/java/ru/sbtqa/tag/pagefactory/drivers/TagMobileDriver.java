@@ -1,16 +1,27 @@
 package ru.sbtqa.tag.pagefactory.drivers;
 
+import cucumber.api.Scenario;
 import io.appium.java_client.AppiumDriver;
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.android.AndroidElement;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.remote.DesiredCapabilities;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.sbtqa.tag.pagefactory.PageFactory;
+import ru.sbtqa.tag.pagefactory.ScenarioContext;
+import ru.sbtqa.tag.pagefactory.SessionContext;
 import static ru.sbtqa.tag.pagefactory.PageFactory.setAspectsDisabled;
 import ru.sbtqa.tag.pagefactory.exceptions.FactoryRuntimeException;
+import ru.sbtqa.tag.pagefactory.support.AdbConsole;
 import ru.sbtqa.tag.pagefactory.support.Environment;
 import ru.sbtqa.tag.qautils.properties.Props;
 
@@ -18,7 +29,6 @@ public class TagMobileDriver {
 
     private static final Logger LOG = LoggerFactory.getLogger(TagMobileDriver.class);
 
-    private static AppiumDriver<AndroidElement> mobileDriver;
     private static final String APPIUM_URL = Props.get("appium.url");
     private static final String APPIUM_DEVICE_NAME = Props.get("appium.device.name");
     private static final String APPIUM_DEVICE_PLATFORM = Props.get("appium.device.platform");
@@ -26,7 +36,10 @@ public class TagMobileDriver {
     private static final String APPIUM_APP_ACTIVITY = Props.get("appium.app.activity");
     private static final boolean APPIUM_FILL_ADB = "true".equalsIgnoreCase(Props.get("appium.fill.adb"));
     private static final boolean APPIUM_CLICK_ADB = "true".equalsIgnoreCase(Props.get("appium.click.adb"));
-    private static String deviceUdId;
+
+    private static final String ADB_KEYBOARD_PACKAGE = "com.android.adbkeyboard";
+    private static final String ADB_KEYBOARD_IME = ADB_KEYBOARD_PACKAGE + "/.AdbIME";
+    private static final String ADB_KEYBOARD_APK = "apk/ADBKeyBoard.apk";
 
     private TagMobileDriver() {
     }
@@ -36,13 +49,41 @@ public class TagMobileDriver {
             throw new FactoryRuntimeException("Failed to get mobile driver while environment is not mobile");
         }
 
-        if (null == mobileDriver) {
+        if (null == SessionContext.getCurrent().getMobileDriver()) {
             createDriver();
         }
-        return mobileDriver;
+        return SessionContext.getCurrent().getMobileDriver();
     }
 
     private static void createDriver() {
+        DevicePool.Device device = null;
+        if (DevicePool.isEnabled()) {
+            device = DevicePool.lease();
+            SessionContext.getCurrent().setDevice(device);
+        }
+        try {
+            startSession(device);
+        } catch (RuntimeException e) {
+            releaseDevice();
+            throw e;
+        }
+    }
+
+    private static void startSession(DevicePool.Device device) {
+        String deviceUDID = device != null ? device.getUdid() : null;
+        if (MobileSessionPool.isEnabled()) {
+            AppiumDriver<AndroidElement> pooledDriver = MobileSessionPool.lease(deviceUDID);
+            if (pooledDriver != null) {
+                try {
+                    setUpSession(pooledDriver, deviceUDID);
+                } catch (RuntimeException e) {
+                    discardSession(pooledDriver, true);
+                    throw e;
+                }
+                return;
+            }
+        }
+
         DesiredCapabilities capabilities = new DesiredCapabilities();
         capabilities.setCapability("deviceName", APPIUM_DEVICE_NAME);
         capabilities.setCapability("platformVersion", APPIUM_DEVICE_PLATFORM);
@@ -51,31 +92,168 @@ public class TagMobileDriver {
         capabilities.setCapability("autoGrantPermissions", "true");
         capabilities.setCapability("unicodeKeyboard", "true");
         capabilities.setCapability("resetKeyboard", "true");
+        if (deviceUDID != null) {
+            capabilities.setCapability("udid", deviceUDID);
+        }
         LOG.info("Capabilities are {}", capabilities);
 
         URL url;
+        if (device != null) {
+            url = device.getAppiumUrl();
+        } else {
+            try {
+                url = new URL(APPIUM_URL);
+            } catch (MalformedURLException e) {
+                throw new FactoryRuntimeException("Could not parse appium url. Check 'appium.url' property", e);
+            }
+        }
+
+        AppiumDriver<AndroidElement> mobileDriver = new AndroidDriver<>(url, capabilities);
+        LOG.info("Mobile driver created {}", mobileDriver);
+        boolean isRegistered = false;
         try {
-            url = new URL(APPIUM_URL);
-        } catch (MalformedURLException e) {
-            throw new FactoryRuntimeException("Could not parse appium url. Check 'appium.url' property", e);
+            setUpSession(mobileDriver, deviceUDID);
+            if (MobileSessionPool.isEnabled()) {
+                MobileSessionPool.register(mobileDriver, getDeviceUDID());
+                isRegistered = true;
+            }
+
+            if (APPIUM_FILL_ADB) {
+                setUpAdbKeyboard(mobileDriver);
+            }
+        } catch (RuntimeException e) {
+            discardSession(mobileDriver, isRegistered);
+            throw e;
         }
+    }
+
+    /**
+     * Drop the session which failed to set up. Session leased from or
+     * registered in {@link MobileSessionPool} is released as failed, other
+     * one is quit
+     */
+    private static void discardSession(AppiumDriver<AndroidElement> mobileDriver, boolean isPooled) {
+        setMobileDriver(null);
+        if (isPooled) {
+            MobileSessionPool.release(mobileDriver, true);
+            return;
+        }
+        try {
+            mobileDriver.quit();
+        } catch (WebDriverException e) {
+            LOG.warn("Failed to quit mobile driver which failed to set up", e);
+        }
+    }
 
+    private static void setUpSession(AppiumDriver<AndroidElement> mobileDriver, String deviceUDID) {
         setAspectsDisabled(true);
         LOG.debug("Aspect disabled");
-        mobileDriver = new AndroidDriver<>(url, capabilities);
-        LOG.info("Mobile driver created {}", mobileDriver);
-        deviceUdId = (String) mobileDriver.getSessionDetails().get("deviceUDID");
+        setMobileDriver(mobileDriver);
+        SessionContext.getCurrent().setDeviceUdId(deviceUDID != null
+                ? deviceUDID : (String) mobileDriver.getSessionDetails().get("deviceUDID"));
+    }
+
+    private static void releaseDevice() {
+        SessionContext context = SessionContext.getCurrent();
+        DevicePool.Device device = context.getDevice();
+        if (device != null) {
+            context.setDevice(null);
+            context.setDeviceUdId(null);
+            DevicePool.release(device);
+        }
+    }
+
+    /**
+     * Install bundled ADBKeyBoard if it is absent on the device, then enable
+     * and activate it. Application is installed through the local adb, as the
+     * apk is not reachable by a remote Appium server, so the device should be
+     * attached to this host
+     */
+    private static void setUpAdbKeyboard(AppiumDriver<AndroidElement> mobileDriver) {
+        SessionContext.getCurrent().setActiveIme(null);
+        try {
+            if (!mobileDriver.isAppInstalled(ADB_KEYBOARD_PACKAGE)) {
+                if (AdbConsole.install(getDeviceUDID(), extractAdbKeyboard())) {
+                    LOG.info("ADBKeyBoard is installed");
+                } else {
+                    LOG.warn("Failed to install ADBKeyBoard on device {}. Make sure it is installed on the device", getDeviceUDID());
+                }
+            }
+        } catch (IOException | WebDriverException e) {
+            LOG.warn("Failed to install ADBKeyBoard. Make sure it is installed on the device", e);
+        }
+        activateAdbKeyboard();
+    }
+
+    private static synchronized File extractAdbKeyboard() throws IOException {
+        File apk = new File(System.getProperty("java.io.tmpdir"), "ADBKeyBoard.apk");
+        if (!apk.isFile()) {
+            try (InputStream resource = TagMobileDriver.class.getClassLoader().getResourceAsStream(ADB_KEYBOARD_APK)) {
+                if (resource == null) {
+                    throw new IOException("There is no " + ADB_KEYBOARD_APK + " in classpath");
+                }
+                Files.copy(resource, apk.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        return apk;
+    }
+
+    /**
+     * Make ADBKeyBoard the input method of the device unless it is already
+     * known to be active. Active input method is tracked per scenario: it is
+     * read from the device settings on the first call, switched if needed and
+     * verified, as {@code ime set} and text broadcasts succeed even if
+     * ADBKeyBoard is not active
+     *
+     * @return true if ADBKeyBoard is active
+     */
+    public static boolean activateAdbKeyboard() {
+        SessionContext context = SessionContext.getCurrent();
+        if (ADB_KEYBOARD_IME.equals(context.getActiveIme())) {
+            return true;
+        }
+        boolean isActivated = ADB_KEYBOARD_IME.equals(getCurrentIme());
+        if (!isActivated) {
+            AdbConsole.execute(Arrays.asList("ime enable " + ADB_KEYBOARD_IME, "ime set " + ADB_KEYBOARD_IME));
+            isActivated = ADB_KEYBOARD_IME.equals(getCurrentIme());
+        }
+        context.setActiveIme(isActivated ? ADB_KEYBOARD_IME : null);
+        if (!isActivated) {
+            LOG.warn("Failed to activate ADBKeyBoard on device {}", getDeviceUDID());
+        }
+        return isActivated;
+    }
+
+    private static String getCurrentIme() {
+        return AdbConsole.executeForOutput("settings get secure default_input_method");
+    }
+
+    /**
+     * Forget the active input method, so it is checked again on the next
+     * {@link #activateAdbKeyboard()}. Should be called if input method could
+     * have been changed outside of the session
+     */
+    public static void resetActiveIme() {
+        SessionContext.getCurrent().setActiveIme(null);
     }
 
     public static void dispose() {
+        AppiumDriver<AndroidElement> mobileDriver = SessionContext.getCurrent().getMobileDriver();
         if (mobileDriver == null) {
             return;
         }
 
         try {
-            mobileDriver.quit();
+            if (MobileSessionPool.isEnabled()) {
+                Scenario scenario = ScenarioContext.getScenario();
+                MobileSessionPool.release(mobileDriver, scenario != null && scenario.isFailed());
+            } else {
+                mobileDriver.quit();
+            }
         } finally {
             setMobileDriver(null);
+            resetActiveIme();
+            releaseDevice();
         }
 
     }
@@ -98,20 +276,20 @@ public class TagMobileDriver {
      * @return the deviceUdId
      */
     public static String getDeviceUDID() {
-        return deviceUdId;
+        return SessionContext.getCurrent().getDeviceUdId();
     }
 
     /**
      * @param aMobileDriver the mobileDriver to set
      */
     public static void setMobileDriver(AppiumDriver<AndroidElement> aMobileDriver) {
-        mobileDriver = aMobileDriver;
+        SessionContext.getCurrent().setMobileDriver(aMobileDriver);
     }
 
     /**
      * @return was driver initialized or not
      */
     public static boolean isDriverInitialized(){
-        return mobileDriver != null;
+        return SessionContext.getCurrent().getMobileDriver() != null;
     }
 }
@@ -4,6 +4,7 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.stream.JsonReader;
+import cucumber.api.Scenario;
 import io.github.bonigarcia.wdm.Architecture;
 import io.github.bonigarcia.wdm.BrowserManager;
 import io.github.bonigarcia.wdm.ChromeDriverManager;
@@ -45,6 +46,8 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.sbtqa.tag.pagefactory.PageFactory;
+import ru.sbtqa.tag.pagefactory.ScenarioContext;
+import ru.sbtqa.tag.pagefactory.SessionContext;
 import ru.sbtqa.tag.pagefactory.exceptions.FactoryRuntimeException;
 import ru.sbtqa.tag.pagefactory.exceptions.UnsupportedBrowserException;
 import ru.sbtqa.tag.pagefactory.support.DesiredCapabilitiesParser;
@@ -68,8 +71,6 @@ public class TagWebDriver {
 
     private static final String IE_BROWSER_TYPE = "ie";
 
-    private static WebDriver webDriver;
-    private static BrowserMobProxy proxy;
     private static final int WEBDRIVER_CREATE_ATTEMPTS = Integer.parseInt(Props.get("webdriver.create.attempts", "3"));
     private static final String WEBDRIVER_PATH = Props.get("webdriver.drivers.path");
     private static final String WEBDRIVER_URL = Props.get("webdriver.url");
@@ -89,6 +90,7 @@ public class TagWebDriver {
     private static final String WEBDRIVER_OS_ARCHITECTURE = Props.get("webdriver.os.arch");
     private static final String WEBDRIVER_BROWSER_PATH = Props.get("webdriver.browser.path");
     private static final String WEBDRIVER_BROWSER_SIZE = Props.get("webdriver.browser.size");
+    private static final long WEBDRIVER_SCRIPT_TIMEOUT = Long.parseLong(Props.get("webdriver.script.timeout", "30000"));
     private static final String MAPPING_FILES_PATH = "drivers/mapping/";
     private static final String MAPPING_FILES_EXTENSION = ".json";
 
@@ -100,25 +102,38 @@ public class TagWebDriver {
             throw new FactoryRuntimeException("Failed to get web driver while environment is not web");
         }
 
-        if (null == webDriver) {
-            for (int i = 1; i <= WEBDRIVER_CREATE_ATTEMPTS; i++) {
-                LOG.info("Attempt #{} to start web driver", i);
-                try {
-                    createDriver();
-                    break;
-                } catch (UnreachableBrowserException e) {
-                    LOG.warn("Failed to create web driver. Attempt number {}", i, e);
-                    dispose();
-                } catch (UnsupportedBrowserException | MalformedURLException e) {
-                    LOG.error("Failed to create web driver", e);
-                    break;
-                }
+        if (null == SessionContext.getCurrent().getWebDriver()) {
+            if (WebDriverPool.isEnabled()) {
+                setWebDriver(WebDriverPool.getInstance().lease());
+            } else {
+                setWebDriver(startDriver());
             }
         }
-        return webDriver;
+        return SessionContext.getCurrent().getWebDriver();
+    }
+
+    /**
+     * Start new browser. Start is being retried up to
+     * {@code webdriver.create.attempts} times if browser is unreachable
+     *
+     * @return started web driver or null if browser could not be started
+     */
+    static WebDriver startDriver() {
+        for (int i = 1; i <= WEBDRIVER_CREATE_ATTEMPTS; i++) {
+            LOG.info("Attempt #{} to start web driver", i);
+            try {
+                return createDriver();
+            } catch (UnreachableBrowserException e) {
+                LOG.warn("Failed to create web driver. Attempt number {}", i, e);
+            } catch (UnsupportedBrowserException | MalformedURLException e) {
+                LOG.error("Failed to create web driver", e);
+                break;
+            }
+        }
+        return null;
     }
 
-    private static void createDriver() throws UnsupportedBrowserException, MalformedURLException {
+    private static WebDriver createDriver() throws UnsupportedBrowserException, MalformedURLException {
         if(WEBDRIVER_BROWSER_NAME.isEmpty()) {
             throw new FactoryRuntimeException("Please add 'webdriver.browser.name  = browser name, for example Chrome' to application.properties");
         }
@@ -129,23 +144,24 @@ public class TagWebDriver {
         configureProxy(capabilities);
         capabilities.setBrowserName(WEBDRIVER_BROWSER_NAME);
 
+        WebDriver webDriver = null;
         if (WEBDRIVER_BROWSER_NAME.equalsIgnoreCase(FIREFOX)) {
             if (WEBDRIVER_URL.isEmpty()) {
-                setWebDriver(new FirefoxDriver(capabilities));
+                webDriver = new FirefoxDriver(capabilities);
             }
         } else if (WEBDRIVER_BROWSER_NAME.equalsIgnoreCase(SAFARI)) {
             if (WEBDRIVER_URL.isEmpty()) {
-                setWebDriver(new SafariDriver(capabilities));
+                webDriver = new SafariDriver(capabilities);
             }
         } else if (WEBDRIVER_BROWSER_NAME.equalsIgnoreCase(CHROME)) {
             if (WEBDRIVER_URL.isEmpty()) {
                 configureDriver(ChromeDriverManager.getInstance(), CHROME);
-                setWebDriver(new ChromeDriver(capabilities));
+                webDriver = new ChromeDriver(capabilities);
             }
         } else if (IS_IE) {
             if (WEBDRIVER_URL.isEmpty()) {
                 configureDriver(InternetExplorerDriverManager.getInstance(), IE_BROWSER_TYPE);
-                setWebDriver(new InternetExplorerDriver(capabilities));
+                webDriver = new InternetExplorerDriver(capabilities);
             }
         } else {
             throw new UnsupportedBrowserException("'" + WEBDRIVER_BROWSER_NAME + "' is not supported yet");
@@ -153,22 +169,30 @@ public class TagWebDriver {
         if (!WEBDRIVER_URL.isEmpty()) {
             URL remoteUrl = new URL(WEBDRIVER_URL);
             SelenoidCapabilitiesProvider.apply(capabilities);
-            setWebDriver(new RemoteWebDriver(remoteUrl, capabilities));
-        }
-        webDriver.manage().timeouts().pageLoadTimeout(getTimeOutInSeconds(), TimeUnit.SECONDS);
-        webDriver.manage().window().maximize();
-
-        if (!WEBDRIVER_BROWSER_SIZE.isEmpty()) {
-            String[] size = WEBDRIVER_BROWSER_SIZE.split("x");
-            int width = Integer.parseInt(size[0]);
-            int height = Integer.parseInt(size[1]);
-            webDriver.manage().window().setSize(new Dimension(width, height));
+            webDriver = new RemoteWebDriver(remoteUrl, capabilities);
         }
 
-        webDriver.get(WEBDRIVER_STARTING_URL);
+        try {
+            webDriver.manage().timeouts().pageLoadTimeout(getTimeOutInSeconds(), TimeUnit.SECONDS);
+            webDriver.manage().timeouts().setScriptTimeout(WEBDRIVER_SCRIPT_TIMEOUT, TimeUnit.MILLISECONDS);
+            webDriver.manage().window().maximize();
+
+            if (!WEBDRIVER_BROWSER_SIZE.isEmpty()) {
+                String[] size = WEBDRIVER_BROWSER_SIZE.split("x");
+                int width = Integer.parseInt(size[0]);
+                int height = Integer.parseInt(size[1]);
+                webDriver.manage().window().setSize(new Dimension(width, height));
+            }
+
+            webDriver.get(WEBDRIVER_STARTING_URL);
+        } catch (RuntimeException e) {
+            quit(webDriver);
+            throw e;
+        }
+        return webDriver;
     }
 
-    private static void configureDriver(BrowserManager webDriverManager, String browserType) {
+    private static synchronized void configureDriver(BrowserManager webDriverManager, String browserType) {
         if (!WEBDRIVER_PATH.isEmpty()) {
             System.setProperty("webdriver." + browserType + ".driver", new File(WEBDRIVER_PATH).getAbsolutePath());
         } else {
@@ -182,7 +206,8 @@ public class TagWebDriver {
 
     private static void configureProxy(DesiredCapabilities capabilities) {
         if (!WEBDRIVER_PROXY.isEmpty()) {
-            setProxy(new BrowserMobProxyServer());
+            BrowserMobProxy proxy = new BrowserMobProxyServer();
+            setProxy(proxy);
             proxy.start(0);
             Proxy seleniumProxy = ClientUtil.createSeleniumProxy(proxy);
             capabilities.setCapability(CapabilityType.PROXY, seleniumProxy);
@@ -350,10 +375,29 @@ public class TagWebDriver {
     }
 
     public static void dispose() {
+        WebDriver webDriver = SessionContext.getCurrent().getWebDriver();
         if (webDriver == null) {
             return;
         }
 
+        try {
+            if (WebDriverPool.isEnabled()) {
+                Scenario scenario = ScenarioContext.getScenario();
+                WebDriverPool.getInstance().release(webDriver, scenario != null && scenario.isFailed());
+            } else {
+                quit(webDriver);
+            }
+        } finally {
+            setWebDriver(null);
+        }
+    }
+
+    /**
+     * Close alerts and windows of the browser and quit it
+     *
+     * @param webDriver driver to quit
+     */
+    static void quit(WebDriver webDriver) {
         try {
             LOG.info("Checking any alert opened");
             WebDriverWait alertAwaiter = new WebDriverWait(webDriver, 2);
@@ -384,11 +428,7 @@ public class TagWebDriver {
             killIE();
         }
 
-        try {
-            webDriver.quit();
-        } finally {
-            setWebDriver(null);
-        }
+        webDriver.quit();
     }
 
     private static void killIE() {
@@ -405,14 +445,14 @@ public class TagWebDriver {
      * @param aWebDriver the webDriver to set
      */
     public static void setWebDriver(WebDriver aWebDriver) {
-        webDriver = aWebDriver;
+        SessionContext.getCurrent().setWebDriver(aWebDriver);
     }
 
     /**
      * @param aProxy the proxy to set
      */
     public static void setProxy(BrowserMobProxy aProxy) {
-        proxy = aProxy;
+        SessionContext.getCurrent().setProxy(aProxy);
     }
 
     /**
@@ -422,6 +462,13 @@ public class TagWebDriver {
         return WEBDRIVER_BROWSER_NAME;
     }
 
+    /**
+     * @return the WEBDRIVER_SCRIPT_TIMEOUT in milliseconds
+     */
+    public static long getScriptTimeout() {
+        return WEBDRIVER_SCRIPT_TIMEOUT;
+    }
+
     /**
      * @return the WEBDRIVER_SHARED
      */
@@ -433,6 +480,6 @@ public class TagWebDriver {
      * @return was driver initialized or not
      */
     public static boolean isDriverInitialized() {
-        return webDriver != null;
+        return SessionContext.getCurrent().getWebDriver() != null;
     }
 }
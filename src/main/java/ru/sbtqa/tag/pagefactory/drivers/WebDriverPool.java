@@ -0,0 +1,326 @@
+package ru.sbtqa.tag.pagefactory.drivers;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.lightbody.bmp.BrowserMobProxy;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.sbtqa.tag.pagefactory.SessionContext;
+import ru.sbtqa.tag.pagefactory.exceptions.FactoryRuntimeException;
+import ru.sbtqa.tag.qautils.properties.Props;
+
+/**
+ * Bounded pool of started browsers. Scenarios lease a browser instead of
+ * starting a new one and release it on dispose. Released browser gets a soft
+ * reset and is being reused by the next scenario. Browser is recycled after
+ * {@code webdriver.pool.max.uses} scenarios, after a failed scenario, or if
+ * it fails reset or health check
+ */
+public class WebDriverPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WebDriverPool.class);
+
+    private static final int POOL_SIZE = Integer.parseInt(Props.get("webdriver.pool.size", "0"));
+    private static final int MAX_USES = Integer.parseInt(Props.get("webdriver.pool.max.uses", "0"));
+    private static final long LEASE_TIMEOUT = Long.parseLong(Props.get("webdriver.pool.lease.timeout", "600000"));
+    private static final boolean WARM_UP = Boolean.parseBoolean(Props.get("webdriver.pool.warmup", "true"));
+    private static final boolean RECYCLE_ON_FAILURE = Boolean.parseBoolean(Props.get("webdriver.pool.recycle.on.failure", "true"));
+    private static final Set<String> RESET_STEPS = new HashSet<>(Arrays.asList(
+            Props.get("webdriver.pool.reset", "windows,cookies,storage,url").toLowerCase().split("\\s*,\\s*")));
+    private static final String WEBDRIVER_STARTING_URL = Props.get("webdriver.starting.url");
+
+    private static final long AWAIT_STEP = 1000;
+
+    private static final String CLEAR_STORAGE_SCRIPT
+            = "try { window.localStorage.clear(); } catch (e) {}"
+            + "try { window.sessionStorage.clear(); } catch (e) {}";
+
+    private static volatile WebDriverPool instance;
+
+    private final BlockingDeque<PooledDriver> idle = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, PooledDriver> leased = new ConcurrentHashMap<>();
+    private final AtomicInteger total = new AtomicInteger();
+
+    private WebDriverPool() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "webdriver-pool-shutdown"));
+        if (WARM_UP) {
+            warmUp();
+        }
+    }
+
+    /**
+     * @return true if {@code webdriver.pool.size} is set
+     */
+    public static boolean isEnabled() {
+        return POOL_SIZE > 0;
+    }
+
+    /**
+     * Get pool instance. Pool is being created and warmed up on the first
+     * request
+     *
+     * @return pool
+     */
+    public static WebDriverPool getInstance() {
+        if (instance == null) {
+            synchronized (WebDriverPool.class) {
+                if (instance == null) {
+                    instance = new WebDriverPool();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Start browsers in background until pool is full
+     */
+    private void warmUp() {
+        ExecutorService starter = Executors.newFixedThreadPool(POOL_SIZE, runnable -> {
+            Thread thread = new Thread(runnable, "webdriver-pool-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < POOL_SIZE; i++) {
+            starter.submit(() -> {
+                if (reserve()) {
+                    try {
+                        idle.offerLast(create());
+                    } catch (RuntimeException e) {
+                        total.decrementAndGet();
+                        LOG.warn("Failed to warm up web driver", e);
+                    }
+                }
+            });
+        }
+        starter.shutdown();
+    }
+
+    /**
+     * Take an idle browser, or start a new one if pool is not full yet.
+     * Otherwise wait for a browser to be released
+     *
+     * @return healthy web driver
+     * @throws FactoryRuntimeException if no browser was released within
+     * {@code webdriver.pool.lease.timeout} milliseconds
+     */
+    public WebDriver lease() {
+        while (true) {
+            PooledDriver pooled = idle.pollFirst();
+            if (pooled == null) {
+                if (reserve()) {
+                    try {
+                        pooled = create();
+                    } catch (RuntimeException e) {
+                        total.decrementAndGet();
+                        throw e;
+                    }
+                } else {
+                    pooled = await();
+                    if (pooled == null) {
+                        continue;
+                    }
+                }
+            }
+
+            if (isHealthy(pooled)) {
+                pooled.uses++;
+                leased.put(pooled.driver, pooled);
+                SessionContext.getCurrent().setProxy(pooled.proxy);
+                LOG.debug("Web driver {} is leased, use #{}", pooled.driver, pooled.uses);
+                return pooled.driver;
+            }
+            LOG.warn("Web driver {} failed health check and will be recycled", pooled.driver);
+            discard(pooled);
+        }
+    }
+
+    /**
+     * Return browser to the pool. Browser is being reset to the starting url
+     * or recycled if it is worn out
+     *
+     * @param driver leased web driver
+     * @param failed whether the scenario that used the driver has failed
+     */
+    public void release(WebDriver driver, boolean failed) {
+        PooledDriver pooled = leased.remove(driver);
+        if (pooled == null) {
+            LOG.warn("Web driver {} was not leased from the pool. Quitting it", driver);
+            TagWebDriver.quit(driver);
+            return;
+        }
+
+        if (MAX_USES > 0 && pooled.uses >= MAX_USES) {
+            LOG.info("Web driver {} was used {} times and will be recycled", driver, pooled.uses);
+            discard(pooled);
+        } else if (failed && RECYCLE_ON_FAILURE) {
+            LOG.info("Web driver {} was used in a failed scenario and will be recycled", driver);
+            discard(pooled);
+        } else if (!reset(pooled)) {
+            discard(pooled);
+        } else {
+            idle.offerFirst(pooled);
+        }
+    }
+
+    private boolean reserve() {
+        int current;
+        do {
+            current = total.get();
+            if (current >= POOL_SIZE) {
+                return false;
+            }
+        } while (!total.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Wait for a browser to be released
+     *
+     * @return released browser or null if a place in the pool became free
+     */
+    private PooledDriver await() {
+        long deadline = System.currentTimeMillis() + LEASE_TIMEOUT;
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                PooledDriver pooled = idle.pollFirst(AWAIT_STEP, TimeUnit.MILLISECONDS);
+                if (pooled != null || total.get() < POOL_SIZE) {
+                    return pooled;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FactoryRuntimeException("Interrupted while waiting for a free web driver", e);
+        }
+        throw new FactoryRuntimeException("There is no free web driver in the pool after "
+                + LEASE_TIMEOUT + " milliseconds. Check 'webdriver.pool.size' property");
+    }
+
+    private PooledDriver create() {
+        SessionContext.getCurrent().setProxy(null);
+        WebDriver driver = TagWebDriver.startDriver();
+        if (driver == null) {
+            throw new FactoryRuntimeException("Failed to start web driver for the pool");
+        }
+        return new PooledDriver(driver, SessionContext.getCurrent().getProxy());
+    }
+
+    private void discard(PooledDriver pooled) {
+        total.decrementAndGet();
+        try {
+            TagWebDriver.quit(pooled.driver);
+        } catch (WebDriverException e) {
+            LOG.warn("Failed to quit recycled web driver", e);
+        }
+        stopProxy(pooled.proxy);
+    }
+
+    private static void stopProxy(BrowserMobProxy proxy) {
+        if (proxy == null || !proxy.isStarted()) {
+            return;
+        }
+        try {
+            proxy.stop();
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to stop proxy of recycled web driver", e);
+        }
+    }
+
+    private static boolean isHealthy(PooledDriver pooled) {
+        try {
+            return !pooled.driver.getWindowHandles().isEmpty() && pooled.driver.getCurrentUrl() != null;
+        } catch (WebDriverException e) {
+            LOG.debug("Web driver health check failed", e);
+            return false;
+        }
+    }
+
+    /**
+     * Soft reset of the browser: close alert and extra windows, clear cookies
+     * and storages of the current site, open starting url. Steps are set by
+     * {@code webdriver.pool.reset} property. HAR of the attached proxy is
+     * always started anew
+     *
+     * @param pooled driver to reset
+     * @return true if reset succeeded
+     */
+    private static boolean reset(PooledDriver pooled) {
+        WebDriver driver = pooled.driver;
+        try {
+            if (pooled.proxy != null && pooled.proxy.getHar() != null) {
+                pooled.proxy.newHar();
+            }
+            if (RESET_STEPS.contains("windows")) {
+                try {
+                    driver.switchTo().alert().dismiss();
+                } catch (NoAlertPresentException e) {
+                    LOG.debug("No alert opened", e);
+                }
+                Iterator<String> handles = driver.getWindowHandles().iterator();
+                String mainHandle = handles.next();
+                while (handles.hasNext()) {
+                    driver.switchTo().window(handles.next()).close();
+                }
+                driver.switchTo().window(mainHandle);
+            }
+            if (RESET_STEPS.contains("cookies")) {
+                driver.manage().deleteAllCookies();
+            }
+            if (RESET_STEPS.contains("storage")) {
+                ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+            }
+            if (RESET_STEPS.contains("url") && !WEBDRIVER_STARTING_URL.isEmpty()) {
+                driver.get(WEBDRIVER_STARTING_URL);
+            }
+            return true;
+        } catch (WebDriverException | IllegalStateException e) {
+            LOG.warn("Failed to reset web driver {}. It will be recycled", driver, e);
+            return false;
+        }
+    }
+
+    private void shutdown() {
+        for (PooledDriver pooled : idle) {
+            quietQuit(pooled.driver);
+            stopProxy(pooled.proxy);
+        }
+        for (PooledDriver pooled : leased.values()) {
+            quietQuit(pooled.driver);
+            stopProxy(pooled.proxy);
+        }
+    }
+
+    private static void quietQuit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            LOG.debug("Failed to quit web driver on shutdown", e);
+        }
+    }
+
+    private static final class PooledDriver {
+
+        private final WebDriver driver;
+        private final BrowserMobProxy proxy;
+        private int uses;
+
+        PooledDriver(WebDriver driver, BrowserMobProxy proxy) {
+            this.driver = driver;
+            this.proxy = proxy;
+        }
+    }
+}
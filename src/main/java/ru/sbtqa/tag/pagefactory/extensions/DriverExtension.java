@@ -13,7 +13,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.sbtqa.tag.pagefactory.PageFactory;
 import ru.sbtqa.tag.pagefactory.exceptions.WaitException;
-import ru.sbtqa.tag.qautils.managers.DateManager;
+import ru.sbtqa.tag.pagefactory.support.Poller;
 
 public class DriverExtension {
 
@@ -113,17 +113,16 @@ public class DriverExtension {
      * @param webElement a {@link org.openqa.selenium.WebElement} object.
      */
     public static void waitUntilElementGoneFromDom(WebElement webElement, long timeout) {
-        Long start = DateManager.getCurrentTimestamp();
-        while (DateManager.getCurrentTimestamp() < start + timeout) {
+        boolean isGone = Poller.until("element gone from dom", timeout, () -> {
             try {
-                if (!webElement.isDisplayed()) {
-                    return;
-                }
+                return !webElement.isDisplayed();
             } catch (NoSuchElementException | StaleElementReferenceException e) {
                 LOG.debug("There is no element {} in dom", webElement, e);
-                return;
+                return true;
             }
-            sleep(1);
+        });
+        if (isGone) {
+            return;
         }
         throw new NoSuchElementException("Timed out after " + timeout + " milliseconds waiting for web element '" + webElement.toString() + "' gone from DOM");
     }
@@ -146,17 +145,16 @@ public class DriverExtension {
      * @throws ru.sbtqa.tag.pagefactory.exceptions.WaitException TODO
      */
     public static void waitForElementGetEnabled(WebElement webElement, long timeout) throws WaitException {
-        long timeoutTime = DateManager.getCurrentTimestamp() + timeout;
-        while (timeoutTime > DateManager.getCurrentTimestamp()) {
-            sleep(1);
+        boolean isEnabled = Poller.until("element get enabled", timeout, () -> {
             try {
-                if (webElement.isEnabled()) {
-                    return;
-                }
+                return webElement.isEnabled();
             } catch (Exception e) {
                 LOG.debug("Target element still not enable", e);
+                return false;
             }
-
+        });
+        if (isEnabled) {
+            return;
         }
         throw new WaitException("Timed out after '" + timeout + "' milliseconds waiting for availability of '" + webElement + "'");
     }
@@ -188,9 +186,7 @@ public class DriverExtension {
      * @throws WaitException in case if alert didn't appear during default wait timeout
      */
     public static void interactWithAlert(String messageText, boolean decision) throws WaitException {
-        long timeoutTime = System.currentTimeMillis() + PageFactory.getTimeOut();
-
-        while (timeoutTime > System.currentTimeMillis()) {
+        boolean isInteracted = Poller.until("alert", PageFactory.getTimeOut(), () -> {
             try {
                 Alert alert = PageFactory.getDriver().switchTo().alert();
                 if (!messageText.isEmpty()) {
@@ -201,11 +197,14 @@ public class DriverExtension {
                 } else {
                     alert.dismiss();
                 }
-                return;
+                return true;
             } catch (Exception e) {
                 LOG.debug("Alert has not appeared yet", e);
+                return false;
             }
-            sleep(1);
+        });
+        if (isInteracted) {
+            return;
         }
         throw new WaitException("Timed out after '" + PageFactory.getTimeOutInSeconds() + "' seconds waiting for alert to accept");
     }
@@ -228,17 +227,4 @@ public class DriverExtension {
             return false;
         }
     }
-
-    /**
-     *
-     * @param sec a int.
-     */
-    private static void sleep(int sec) {
-        try {
-            Thread.sleep(sec * 1000L);
-        } catch (InterruptedException e) {
-            LOG.warn("Error while thread is sleeping", e);
-            Thread.currentThread().interrupt();
-        }
-    }
 }
@@ -1,13 +1,20 @@
 package ru.sbtqa.tag.pagefactory.extensions;
 
-import java.util.List;
 import io.appium.java_client.MobileBy;
+import java.io.IOException;
+import java.io.StringReader;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.Point;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
 import ru.sbtqa.tag.pagefactory.PageFactory;
 import ru.sbtqa.tag.pagefactory.exceptions.SwipeException;
 import ru.sbtqa.tag.qautils.strategies.DirectionStrategy;
@@ -133,11 +140,14 @@ public class MobileExtension {
      * @throws SwipeException if there is an error while swiping
      */
     public static void swipeToText(DirectionStrategy direction, String text, MatchStrategy strategy) throws SwipeException { 
-	swipeToText(direction, text, MatchStrategy.EXACT, DEFAULT_SWIPE_DEPTH);
+	swipeToText(direction, text, strategy, DEFAULT_SWIPE_DEPTH);
     }
     
     /**
-     * Swipe until the text becomes visible
+     * Swipe until the text becomes visible. Page source is fetched once per
+     * swipe and parsed locally: text attributes are matched against the text,
+     * and fingerprint of the page is compared with the previous one to detect
+     * the end of the list
      * 
      * @param direction swipe direction
      * @param text text on page to swipe to
@@ -147,31 +157,25 @@ public class MobileExtension {
      */
     @Deprecated
     public static void swipeToText(DirectionStrategy direction, String text, MatchStrategy strategy, int depth) throws SwipeException {
-	for (int depthCounter = 0; depthCounter < depth; depthCounter++) {
-	    String oldPageSource = PageFactory.getDriver().getPageSource();
-	    switch (strategy) {
-		case EXACT:
-		    if (PageFactory.getMobileDriver().findElementsByXPath("//*[@text='" + text + "']").size() > 0) {
-			return;
-		    }
-		case CONTAINS:
-		    List<WebElement> textViews = PageFactory.getMobileDriver().findElementsByClassName("android.widget.TextView");
-		    if (textViews.size() > 0) {
-			for (WebElement textView : textViews) {
-			    if (textView.getText().contains(text)) {
-				return;
-			    }
-			}
-		    }
-	    }
-	    swipe(direction);
+	if (strategy != MatchStrategy.EXACT && strategy != MatchStrategy.CONTAINS) {
+	    throw new SwipeException("Please use correct matching strategy. Available options: 'EXACT' or 'CONTAINS'.");
+	}
 
-	    if (PageFactory.getDriver().getPageSource().equals(oldPageSource)) {
+	long previousFingerprint = 0;
+	for (int depthCounter = 0; ; depthCounter++) {
+	    PageSourceScan scan = PageSourceScan.scan(PageFactory.getDriver().getPageSource(), text, strategy);
+	    if (scan.isTextFound()) {
+		return;
+	    }
+	    if (depthCounter > 0 && scan.getFingerprint() == previousFingerprint) {
 		throw new SwipeException("Swiping limit is reached. Text not found");
 	    }
+	    if (depthCounter >= depth) {
+		throw new SwipeException("Swiping depth is reached. Text not found");
+	    }
+	    previousFingerprint = scan.getFingerprint();
+	    swipe(direction);
 	}
-
-	throw new SwipeException("Swiping depth is reached. Text not found");
     }
 
     /**
@@ -207,4 +211,77 @@ public class MobileExtension {
 			throw new SwipeException("Please use correct matching strategy. Available options: 'EXACT' or 'CONTAINS'.");
         }
     }
+
+    /**
+     * Single pass over page source XML: searches text attributes and folds
+     * every element and attribute into a 64-bit polynomial rolling hash.
+     * EXACT matches text of any element, CONTAINS matches text of
+     * {@code android.widget.TextView} elements only, so text typed into a
+     * field or a button caption doesn't stop the swipe
+     */
+    private static final class PageSourceScan extends DefaultHandler {
+
+        private static final long HASH_MULTIPLIER = 1_000_003L;
+        private static final String TEXT_VIEW_CLASS = "android.widget.TextView";
+
+        private final String text;
+        private final MatchStrategy strategy;
+        private boolean isTextFound;
+        private long fingerprint = 17;
+
+        private PageSourceScan(String text, MatchStrategy strategy) {
+            this.text = text;
+            this.strategy = strategy;
+        }
+
+        static PageSourceScan scan(String pageSource, String text, MatchStrategy strategy) throws SwipeException {
+            PageSourceScan scan = new PageSourceScan(text, strategy);
+            try {
+                SAXParserFactory factory = SAXParserFactory.newInstance();
+                factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+                factory.newSAXParser().parse(new InputSource(new StringReader(pageSource)), scan);
+            } catch (ParserConfigurationException | SAXException | IOException e) {
+                throw new SwipeException("Failed to parse page source", e);
+            }
+            return scan;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            roll(qName);
+            for (int i = 0; i < attributes.getLength(); i++) {
+                roll(attributes.getQName(i));
+                roll(attributes.getValue(i));
+            }
+            String value = attributes.getValue("text");
+            if (!isTextFound && value != null) {
+                isTextFound = strategy == MatchStrategy.EXACT ? value.equals(text)
+                        : isTextView(qName, attributes) && value.contains(text);
+            }
+        }
+
+        private static boolean isTextView(String qName, Attributes attributes) {
+            return TEXT_VIEW_CLASS.equals(qName) || TEXT_VIEW_CLASS.equals(attributes.getValue("class"));
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            roll("/");
+        }
+
+        private void roll(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                fingerprint = fingerprint * HASH_MULTIPLIER + value.charAt(i);
+            }
+            fingerprint = fingerprint * HASH_MULTIPLIER + 1;
+        }
+
+        boolean isTextFound() {
+            return isTextFound;
+        }
+
+        long getFingerprint() {
+            return fingerprint;
+        }
+    }
 }
@@ -1,20 +1,230 @@
 package ru.sbtqa.tag.pagefactory.extensions;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.sbtqa.tag.pagefactory.PageFactory;
+import ru.sbtqa.tag.pagefactory.SessionContext;
+import ru.sbtqa.tag.pagefactory.annotations.PageEntry;
+import ru.sbtqa.tag.pagefactory.drivers.TagWebDriver;
 import ru.sbtqa.tag.pagefactory.exceptions.WaitException;
+import ru.sbtqa.tag.pagefactory.support.Poller;
+import ru.sbtqa.tag.qautils.properties.Props;
 import static ru.sbtqa.tag.pagefactory.extensions.DriverExtension.waitUntilElementAppearsInDom;
-import ru.sbtqa.tag.qautils.managers.DateManager;
 
 public class WebExtension {
 
     private static final Logger LOG = LoggerFactory.getLogger(WebExtension.class);
 
+    private static final long QUIET_PERIOD = Long.parseLong(Props.get("page.load.quiet.period", "100"));
+    private static final List<String> TRACKERS = Arrays.asList(Props.get("page.load.trackers", "xhr,fetch").split("\\s*,\\s*"));
+    private static final long TIMER_THRESHOLD = Long.parseLong(Props.get("page.load.timer.threshold", "1000"));
+    private static final String NO_TRACKERS = "none";
+
+    /**
+     * Readiness detector installed once per document. Tracks pending
+     * XMLHttpRequest and fetch calls, timeouts not longer than the threshold
+     * and animation frames, and remembers the time of the last activity.
+     * Argument is the timer threshold in milliseconds
+     */
+    private static final String READINESS_INSTALL_SCRIPT
+            = "if (window.__pageFactoryReadiness) { return; }"
+            + "var state = {pending: {xhr: 0, fetch: 0, timers: 0, raf: 0}, last: Date.now()};"
+            + "var threshold = arguments[0];"
+            + "var begin = function(type) { state.pending[type]++; state.last = Date.now(); var ended = false;"
+            + "  return function() { if (!ended) { ended = true; state.pending[type]--; state.last = Date.now(); } }; };"
+            + "var send = XMLHttpRequest.prototype.send;"
+            + "XMLHttpRequest.prototype.send = function() { var end = begin('xhr'); this.addEventListener('loadend', end);"
+            + "  try { return send.apply(this, arguments); } catch (e) { end(); throw e; } };"
+            + "if (window.fetch) { var fetch = window.fetch;"
+            + "  window.fetch = function() { var end = begin('fetch');"
+            + "    try { var result = fetch.apply(this, arguments); result.then(end, end); return result; } catch (e) { end(); throw e; } }; }"
+            + "var track = function(set, clear, type, delayed) { var ends = {};"
+            + "  window[set] = (function(original) { return function(callback, delay) {"
+            + "    if (typeof callback !== 'function' || (delayed && delay > threshold)) { return original.apply(window, arguments); }"
+            + "    var args = Array.prototype.slice.call(arguments), id, end = begin(type);"
+            + "    args[0] = function() { delete ends[id]; end(); return callback.apply(this, arguments); };"
+            + "    id = original.apply(window, args); ends[id] = end; return id; }; })(window[set]);"
+            + "  window[clear] = (function(original) { return function(id) {"
+            + "    if (ends[id]) { ends[id](); delete ends[id]; } return original.apply(window, arguments); }; })(window[clear]); };"
+            + "track('setTimeout', 'clearTimeout', 'timers', true);"
+            + "if (window.requestAnimationFrame) { track('requestAnimationFrame', 'cancelAnimationFrame', 'raf', false); }"
+            + "window.__pageFactoryReadiness = state;";
+    /**
+     * Check whether the document is complete and tracked activity was quiet
+     * for {@code quietPeriod}. Returns null if detector is not installed yet
+     */
+    private static final String READINESS_CHECK
+            = "var state = window.__pageFactoryReadiness;"
+            + "if (!state) { return null; }"
+            + "if (document.readyState !== 'complete') { return false; }"
+            + "for (var i = 0; i < trackers.length; i++) { if (state.pending[trackers[i]] > 0) { return false; } }"
+            + "return trackers.length === 0 || Date.now() - state.last >= quietPeriod;";
+    /**
+     * Arguments are the quiet period and the list of trackers
+     */
+    private static final String READINESS_CHECK_SCRIPT
+            = "var quietPeriod = arguments[0], trackers = arguments[1];"
+            + READINESS_CHECK;
+    /**
+     * Readiness contract of a page checked by one call: elements are
+     * displayed, url matches the pattern, document is complete and, if
+     * trackers are given, tracked activity is quiet. Arguments are elements,
+     * url pattern or null, quiet period and trackers or null
+     */
+    private static final String PAGE_READINESS_SCRIPT
+            = "var elements = arguments[0], url = arguments[1], quietPeriod = arguments[2], trackers = arguments[3];"
+            + "for (var j = 0; j < elements.length; j++) { var element = elements[j];"
+            + "  if (!document.documentElement.contains(element)"
+            + "    || !(element.offsetWidth || element.offsetHeight || element.getClientRects().length)) { return false; } }"
+            + "if (url !== null && !new RegExp('^(?:' + url + ')$').test(window.location.href)) { return false; }"
+            + "if (trackers === null) { return document.readyState === 'complete'; }"
+            + READINESS_CHECK;
+
+    /**
+     * Async script that resolves as soon as the condition becomes true. The
+     * condition is checked on every DOM mutation, input and change events
+     * and every {@link #SCRIPT_CHECK_INTERVAL} milliseconds for the changes
+     * that are not visible to MutationObserver. Arguments are: condition
+     * timeout, check interval, condition arguments, callback
+     */
+    private static final String WAIT_SCRIPT_TEMPLATE
+            = "var args = Array.prototype.slice.call(arguments, 2, arguments.length - 1);"
+            + "var callback = arguments[arguments.length - 1];"
+            + "var condition = function() { %s };"
+            + "var check = function() { try { return !!condition.apply(null, args); } catch (e) { return false; } };"
+            + "if (check()) { callback(true); return; }"
+            + "var done = false, observer, timer, poller;"
+            + "var finish = function(result) {"
+            + "  if (done) { return; } done = true;"
+            + "  observer.disconnect(); clearTimeout(timer); clearInterval(poller);"
+            + "  document.removeEventListener('input', onChange, true);"
+            + "  document.removeEventListener('change', onChange, true);"
+            + "  callback(result);"
+            + "};"
+            + "var scheduled = false;"
+            + "var schedule = window.requestAnimationFrame"
+            + "  ? function(task) { window.requestAnimationFrame(task); } : function(task) { setTimeout(task, 0); };"
+            + "var onChange = function() { if (scheduled || done) { return; } scheduled = true;"
+            + "  schedule(function() { scheduled = false; if (!done && check()) { finish(true); } }); };"
+            + "observer = new MutationObserver(onChange);"
+            + "observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});"
+            + "document.addEventListener('input', onChange, true);"
+            + "document.addEventListener('change', onChange, true);"
+            + "poller = setInterval(function() { if (check()) { finish(true); } }, arguments[1]);"
+            + "timer = setTimeout(function() { finish(check()); }, arguments[0]);";
+    private static final String SYNC_SCRIPT_TEMPLATE
+            = "return !!(function() { %s }).apply(null, arguments);";
+    /**
+     * Arguments are element, highlight flag and scroll flag. Returns initial
+     * border style if element was highlighted
+     */
+    private static final String PREPARE_CLICK_SCRIPT
+            = "var element = arguments[0], style = null;"
+            + "if (arguments[1]) { style = element.style.border; element.style.border = '3px solid red'; }"
+            + "if (arguments[2]) { var rect = element.getBoundingClientRect();"
+            + "  var x = rect.left + window.pageXOffset, y = rect.top + window.pageYOffset;"
+            + "  var height = window.outerHeight || document.documentElement.clientHeight;"
+            + "  if (height < y + rect.height + 200) { window.scroll(x, y - 200); } }"
+            + "return style;";
+    /**
+     * Set values of text inputs, textareas and editable elements and fire
+     * input and change events. Arguments are elements and values. Returns
+     * whether each element was filled
+     */
+    private static final String FILL_FIELDS_SCRIPT
+            = "var elements = arguments[0], values = arguments[1], result = [];"
+            + "var skipped = ['checkbox', 'radio', 'file', 'button', 'submit', 'reset', 'image'];"
+            + "var fire = function(element, type) { var event;"
+            + "  if (typeof Event === 'function') { event = new Event(type, {bubbles: true}); }"
+            + "  else { event = document.createEvent('HTMLEvents'); event.initEvent(type, true, false); }"
+            + "  element.dispatchEvent(event); };"
+            + "for (var i = 0; i < elements.length; i++) { var element = elements[i], tag = element.tagName.toLowerCase();"
+            + "  var isInput = tag === 'textarea' || (tag === 'input' && skipped.indexOf((element.type || '').toLowerCase()) === -1);"
+            + "  if (element.disabled || element.readOnly || !(isInput || element.isContentEditable)) { result.push(false); continue; }"
+            + "  if (element.focus) { element.focus(); }"
+            + "  if (isInput) { var descriptor = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(element), 'value');"
+            + "    if (descriptor && descriptor.set) { descriptor.set.call(element, values[i]); } else { element.value = values[i]; } }"
+            + "  else { element.textContent = values[i]; }"
+            + "  fire(element, 'input'); fire(element, 'change');"
+            + "  if (element.blur) { element.blur(); }"
+            + "  result.push(true); }"
+            + "return result;";
+    /**
+     * Collect tag name, value and title attributes and rendered text of the
+     * elements. Argument is the list of elements
+     */
+    private static final String ELEMENT_VALUES_SCRIPT
+            = "var elements = arguments[0], result = [];"
+            + "for (var i = 0; i < elements.length; i++) { var element = elements[i];"
+            + "  result.push({tag: element.tagName.toLowerCase(), value: element.value === undefined ? null : String(element.value),"
+            + "    title: element.getAttribute('title'), text: element.innerText || element.textContent || ''}); }"
+            + "return result;";
+    /**
+     * Select the first option which text matches ignoring spaces, and fire
+     * input and change events. Arguments are select element, option text and
+     * contains flag. Returns text of the selected option or null
+     */
+    private static final String SELECT_OPTION_SCRIPT
+            = "var select = arguments[0], contains = arguments[2];"
+            + "var strip = function(text) { return text.replace(/[ \\t\\n\\x0B\\f\\r]+/g, ''); };"
+            + "var expected = strip(arguments[1]);"
+            + "var fire = function(type) { var event;"
+            + "  if (typeof Event === 'function') { event = new Event(type, {bubbles: true}); }"
+            + "  else { event = document.createEvent('HTMLEvents'); event.initEvent(type, true, false); }"
+            + "  select.dispatchEvent(event); };"
+            + "var options = select.options || select.getElementsByTagName('option');"
+            + "for (var i = 0; i < options.length; i++) { var text = strip(options[i].text);"
+            + "  if (contains ? text.indexOf(expected) !== -1 : text === expected) {"
+            + "    if (!options[i].selected) { options[i].selected = true; fire('input'); fire('change'); }"
+            + "    return options[i].text; } }"
+            + "return null;";
+    private static final long SCRIPT_CHECK_INTERVAL = 250;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final long SCRIPT_TIMEOUT_MARGIN = 2000;
+
+    private static final String TEXT_PRESENCE_CONDITION
+            = "var body = document.body;"
+            + "var text = body ? (body.innerText || body.textContent || '') : '';"
+            + "return (text.replace(/\\s+/g, '').indexOf(arguments[0]) !== -1) === arguments[1];";
+    /**
+     * Whitespace-insensitive search of several texts in the rendered page
+     * text. Page text is being normalized once per call, only an array of
+     * booleans is returned. Argument is an array of already normalized texts
+     */
+    private static final String TEXT_SEARCH_SCRIPT
+            = "var body = document.body;"
+            + "var text = body ? (body.innerText || body.textContent || '') : '';"
+            + "text = text.replace(/\\s+/g, '');"
+            + "var texts = arguments[0], result = [];"
+            + "for (var i = 0; i < texts.length; i++) { result.push(text.indexOf(texts[i]) !== -1); }"
+            + "return result;";
+    private static final String ELEMENT_GONE_CONDITION
+            = "var element = arguments[0];"
+            + "return !document.documentElement.contains(element)"
+            + " || !(element.offsetWidth || element.offsetHeight || element.getClientRects().length);";
+    private static final String INPUT_VALUE_CONDITION
+            = "var value = arguments[0].value;"
+            + "return value !== undefined && value !== null && value !== '';";
+
     /**
      * Get outer element text. Used for get text from checkboxes and radio
      * buttons
@@ -43,30 +253,121 @@ public class WebExtension {
     }
 
     /**
-     * Wait for page prepared with javascript
+     * Wait for page prepared with javascript. Page is ready when document is
+     * complete and there were no tracked network requests during
+     * {@code page.load.quiet.period} milliseconds. Short timers and animation
+     * frames are tracked only if enabled by {@code page.load.trackers}
      *
-     * @param stopRecursion TODO
+     * @param stopRecursion not used since page is not being refreshed anymore
      * @throws ru.sbtqa.tag.pagefactory.exceptions.WaitException TODO
      */
     public static void waitForPageToLoad(boolean... stopRecursion) throws WaitException {
-	long timeoutTime = System.currentTimeMillis() + PageFactory.getTimeOut();
-	while (timeoutTime > System.currentTimeMillis()) {
+	waitForPageToLoad(QUIET_PERIOD, TRACKERS);
+    }
+
+    /**
+     * Wait for page prepared with javascript using readiness settings of the
+     * page. See {@link PageEntry#quietPeriod()} and
+     * {@link PageEntry#trackers()}
+     *
+     * @param pageClass page class annotated with {@link PageEntry}
+     * @throws ru.sbtqa.tag.pagefactory.exceptions.WaitException if page is not
+     * ready during the timeout
+     */
+    public static void waitForPageToLoad(Class<?> pageClass) throws WaitException {
+	PageEntry entry = pageClass.getAnnotation(PageEntry.class);
+	if (entry == null) {
+	    waitForPageToLoad();
+	    return;
+	}
+	waitForPageToLoad(getQuietPeriod(entry), getTrackers(entry));
+    }
+
+    /**
+     * Wait until readiness contract of the page declared by
+     * {@link PageEntry#readyElements()}, {@link PageEntry#readyUrl()} and
+     * {@link PageEntry#networkIdle()} is met. All conditions are checked by
+     * one script call per probe. Wait time is recorded in {@link Poller}
+     * statistics under the page title
+     *
+     * @param pageClass page class annotated with {@link PageEntry}
+     * @param readyElements elements of the page that should be displayed
+     * @return time in milliseconds the page took to become ready
+     * @throws ru.sbtqa.tag.pagefactory.exceptions.WaitException if contract
+     * is not met during the timeout
+     */
+    public static long waitForPageReadiness(Class<?> pageClass, List<WebElement> readyElements) throws WaitException {
+	PageEntry entry = pageClass.getAnnotation(PageEntry.class);
+	String urlPattern = entry.readyUrl().isEmpty() ? null : entry.readyUrl();
+	List<String> trackers = null;
+	if (entry.networkIdle()) {
+	    trackers = new ArrayList<>(getTrackers(entry));
+	    trackers.remove(NO_TRACKERS);
+	}
+	Object[] args = {readyElements, urlPattern, getQuietPeriod(entry), trackers};
+
+	JavascriptExecutor executor = (JavascriptExecutor) PageFactory.getWebDriver();
+	long start = System.currentTimeMillis();
+	boolean isReady = Poller.until("readiness of page '" + entry.title() + "'", PageFactory.getTimeOut(), () -> {
 	    try {
-		if ("complete".equals((String) ((JavascriptExecutor) PageFactory.getWebDriver()).executeScript("return document.readyState"))) {
-		    return;
+		Object ready = executor.executeScript(PAGE_READINESS_SCRIPT, args);
+		if (ready == null) {
+		    executor.executeScript(READINESS_INSTALL_SCRIPT, TIMER_THRESHOLD);
+		    return false;
 		}
-		sleep(1);
+		return Boolean.TRUE.equals(ready);
 	    } catch (Exception | AssertionError e) {
-		LOG.debug("Page does not become to ready state", e);
-		PageFactory.getWebDriver().navigate().refresh();
-		LOG.debug("Page refreshed");
-		if ((stopRecursion.length == 0) || (stopRecursion.length > 0 && !stopRecursion[0])) {
-		    waitForPageToLoad(true);
-		}
+		LOG.debug("Page '{}' is not ready", entry.title(), e);
+		return false;
 	    }
+	});
+	if (!isReady) {
+	    throw new WaitException("Timed out after " + PageFactory.getTimeOutInSeconds() + " seconds waiting for readiness of page '"
+		    + entry.title() + "'. Elements: " + Arrays.toString(entry.readyElements()) + ", url: '" + entry.readyUrl()
+		    + "', network idle: " + entry.networkIdle());
 	}
+	return System.currentTimeMillis() - start;
+    }
+
+    private static long getQuietPeriod(PageEntry entry) {
+	return entry.quietPeriod() < 0 ? QUIET_PERIOD : entry.quietPeriod();
+    }
+
+    private static List<String> getTrackers(PageEntry entry) {
+	return entry.trackers().length == 0 ? TRACKERS : Arrays.asList(entry.trackers());
+    }
 
-	throw new WaitException("Timed out after " + PageFactory.getTimeOutInSeconds() + " seconds waiting for preparedness of page");
+    /**
+     * Wait until document is complete and tracked activity is quiet. Readiness
+     * detector is being injected into the document on the first check, so
+     * activity started before the injection is not tracked
+     *
+     * @param quietPeriod period in milliseconds without tracked activity
+     * @param trackers tracked activity: xhr, fetch, timers, raf. Only document
+     * state is checked if empty or "none"
+     * @throws ru.sbtqa.tag.pagefactory.exceptions.WaitException if page is not
+     * ready during the timeout
+     */
+    public static void waitForPageToLoad(long quietPeriod, Collection<String> trackers) throws WaitException {
+	List<String> tracked = new ArrayList<>(trackers);
+	tracked.remove(NO_TRACKERS);
+	JavascriptExecutor executor = (JavascriptExecutor) PageFactory.getWebDriver();
+	boolean isLoaded = Poller.until("page to load", PageFactory.getTimeOut(), () -> {
+	    try {
+		Object ready = executor.executeScript(READINESS_CHECK_SCRIPT, quietPeriod, tracked);
+		if (ready == null) {
+		    executor.executeScript(READINESS_INSTALL_SCRIPT, TIMER_THRESHOLD);
+		    return false;
+		}
+		return Boolean.TRUE.equals(ready);
+	    } catch (Exception | AssertionError e) {
+		LOG.debug("Page does not become to ready state", e);
+		return false;
+	    }
+	});
+	if (!isLoaded) {
+	    throw new WaitException("Timed out after " + PageFactory.getTimeOutInSeconds() + " seconds waiting for preparedness of page");
+	}
     }
 
     /**
@@ -76,36 +377,193 @@ public class WebExtension {
      * @throws ru.sbtqa.tag.pagefactory.exceptions.WaitException TODO
      */
     public static void waitForTextInInputExists(WebElement webElement, long timeout) throws WaitException {
-	long timeoutTime = DateManager.getCurrentTimestamp() + timeout;
-	while (timeoutTime > DateManager.getCurrentTimestamp()) {
-	    sleep(1);
-	    if (!webElement.getAttribute("value").isEmpty()) {
-		return;
-	    }
+	if (Poller.until("text in input", timeout, () -> !webElement.getAttribute("value").isEmpty())) {
+	    return;
 	}
 	throw new WaitException("Timed out after '" + timeout + "' milliseconds waiting for existence of '" + webElement + "'");
     }
 
     /**
-     * Wait until specified text either appears, or disappears from page source
+     * Wait until specified text either appears, or disappears from page source.
+     * Spaces are being ignored
      *
      * @param text text to search in page source
      * @param shouldTextBePresent boolean, self explanatory
      * @throws ru.sbtqa.tag.pagefactory.exceptions.WaitException TODO
      */
     public static void waitForTextPresenceInPageSource(String text, boolean shouldTextBePresent) throws WaitException {
-	long timeoutTime = System.currentTimeMillis() + PageFactory.getTimeOut();
-	WebElement body = waitUntilElementAppearsInDom(By.tagName("body"));
-	while (timeoutTime > System.currentTimeMillis()) {
-	    sleep(1);
-	    if (body.getText().replaceAll("\\s+", "").contains(text.replaceAll("\\s+", "")) == shouldTextBePresent) {
+	waitForTextsPresenceInPageSource(Collections.singletonList(text), shouldTextBePresent);
+    }
+
+    /**
+     * Wait until all specified texts either appear, or disappear from page
+     * source. Spaces are being ignored. All texts are being checked in the
+     * browser by one script call per probe
+     *
+     * @param texts texts to search in page source
+     * @param shouldTextBePresent boolean, self explanatory
+     * @throws ru.sbtqa.tag.pagefactory.exceptions.WaitException with the list
+     * of texts that didn't reach expected state during the timeout
+     */
+    public static void waitForTextsPresenceInPageSource(Collection<String> texts, boolean shouldTextBePresent) throws WaitException {
+	waitUntilElementAppearsInDom(By.tagName("body"));
+	List<String> pending = new ArrayList<>(texts);
+	Poller.until("text in page source", PageFactory.getTimeOut(), () -> {
+	    Map<String, Boolean> found = findTextsInPageSource(pending);
+	    pending.removeIf(text -> found.get(text) == shouldTextBePresent);
+	    return pending.isEmpty();
+	});
+	if (!pending.isEmpty()) {
+	    throw new WaitException("Timed out after '" + PageFactory.getTimeOutInSeconds() + "' seconds waiting for "
+		    + (shouldTextBePresent ? "presence" : "absence") + " of " + pending + " in page source");
+	}
+    }
+
+    /**
+     * Check whether specified text is present in page source. Spaces are being
+     * ignored
+     *
+     * @param text text to search in page source
+     * @return true if text is present
+     */
+    public static boolean isTextPresentInPageSource(String text) {
+	return findTextsInPageSource(Collections.singletonList(text)).get(text);
+    }
+
+    /**
+     * Search several texts in page source by one script call. Spaces are being
+     * ignored. Search runs in the browser, so only the result is transferred
+     *
+     * @param texts texts to search in page source
+     * @return presence of every text mapped to the text in the given order
+     */
+    public static Map<String, Boolean> findTextsInPageSource(Collection<String> texts) {
+	List<String> normalized = new ArrayList<>(texts.size());
+	for (String text : texts) {
+	    normalized.add(WHITESPACE.matcher(text).replaceAll(""));
+	}
+	List<?> result = (List<?>) ((JavascriptExecutor) PageFactory.getWebDriver()).executeScript(TEXT_SEARCH_SCRIPT, normalized);
+
+	Map<String, Boolean> found = new LinkedHashMap<>();
+	int i = 0;
+	for (String text : texts) {
+	    found.put(text, Boolean.TRUE.equals(result.get(i++)));
+	}
+	return found;
+    }
+
+    /**
+     * Wait in the browser until JavaScript condition becomes true. Condition
+     * is being checked on DOM changes by MutationObserver inside of a single
+     * async script, so waiting costs no round trips. Checks are coalesced to
+     * one per animation frame. Script timeout is reset to
+     * {@code webdriver.script.timeout} afterwards. If the script is
+     * interrupted, e.g. by navigation, condition is polled for the rest of
+     * the timeout
+     *
+     * @param condition body of a JavaScript function that returns boolean.
+     * Condition arguments are available through {@code arguments}
+     * @param timeout timeout in milliseconds
+     * @param args condition arguments. Could be web elements
+     * @return true if condition became true during the timeout
+     */
+    public static boolean waitForScriptCondition(String condition, long timeout, Object... args) {
+	WebDriver driver = PageFactory.getWebDriver();
+	long timeoutTime = System.currentTimeMillis() + timeout;
+	Object[] scriptArgs = new Object[args.length + 2];
+	scriptArgs[0] = timeout;
+	scriptArgs[1] = SCRIPT_CHECK_INTERVAL;
+	System.arraycopy(args, 0, scriptArgs, 2, args.length);
+	try {
+	    driver.manage().timeouts().setScriptTimeout(timeout + SCRIPT_TIMEOUT_MARGIN, TimeUnit.MILLISECONDS);
+	    return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeAsyncScript(String.format(WAIT_SCRIPT_TEMPLATE, condition), scriptArgs));
+	} catch (StaleElementReferenceException e) {
+	    throw e;
+	} catch (WebDriverException e) {
+	    LOG.debug("Async wait script was interrupted. Polling the condition", e);
+	} finally {
+	    resetScriptTimeout(driver);
+	}
+
+	String script = String.format(SYNC_SCRIPT_TEMPLATE, condition);
+	return Poller.until("script condition", timeoutTime - System.currentTimeMillis(), () -> {
+	    try {
+		return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(script, args));
+	    } catch (StaleElementReferenceException e) {
+		throw e;
+	    } catch (WebDriverException e) {
+		LOG.debug("Script condition is not checked", e);
+		return false;
+	    }
+	});
+    }
+
+    private static void resetScriptTimeout(WebDriver driver) {
+	try {
+	    driver.manage().timeouts().setScriptTimeout(TagWebDriver.getScriptTimeout(), TimeUnit.MILLISECONDS);
+	} catch (WebDriverException e) {
+	    LOG.debug("Failed to reset script timeout", e);
+	}
+    }
+
+    /**
+     * Wait until specified text either appears, or disappears from the page.
+     * Spaces are being ignored. See
+     * {@link #waitForScriptCondition(String, long, Object...)}
+     *
+     * @param text text to search on the page
+     * @param shouldTextBePresent boolean, self explanatory
+     * @param timeout timeout in milliseconds
+     * @throws ru.sbtqa.tag.pagefactory.exceptions.WaitException if text
+     * presence didn't change during the timeout
+     */
+    public static void waitForTextPresence(String text, boolean shouldTextBePresent, long timeout) throws WaitException {
+	if (!waitForScriptCondition(TEXT_PRESENCE_CONDITION, timeout, WHITESPACE.matcher(text).replaceAll(""), shouldTextBePresent)) {
+	    throw new WaitException("Timed out after '" + timeout + "' milliseconds waiting for "
+		    + (shouldTextBePresent ? "presence" : "absence") + " of '" + text + "' on the page");
+	}
+    }
+
+    /**
+     * Wait until element is removed from DOM or hidden. See
+     * {@link #waitForScriptCondition(String, long, Object...)}
+     *
+     * @param webElement element to wait for
+     * @param timeout timeout in milliseconds
+     * @throws ru.sbtqa.tag.pagefactory.exceptions.WaitException if element is
+     * still displayed after the timeout
+     */
+    public static void waitForElementGone(WebElement webElement, long timeout) throws WaitException {
+	try {
+	    if (waitForScriptCondition(ELEMENT_GONE_CONDITION, timeout, webElement)) {
 		return;
 	    }
+	} catch (NoSuchElementException | StaleElementReferenceException e) {
+	    LOG.debug("There is no element {} in dom", webElement, e);
+	    return;
 	}
-	throw new WaitException("Timed out after '" + PageFactory.getTimeOutInSeconds() + "' seconds waiting for presence of '" + text + "' in page source");
+	throw new WaitException("Timed out after '" + timeout + "' milliseconds waiting for web element '" + webElement + "' gone from DOM");
     }
 
     /**
+     * Wait until input gets a non-empty value. See
+     * {@link #waitForScriptCondition(String, long, Object...)}
+     *
+     * @param webElement input to wait for
+     * @param timeout timeout in milliseconds
+     * @throws ru.sbtqa.tag.pagefactory.exceptions.WaitException if input is
+     * still empty after the timeout
+     */
+    public static void waitForInputValue(WebElement webElement, long timeout) throws WaitException {
+	if (!waitForScriptCondition(INPUT_VALUE_CONDITION, timeout, webElement)) {
+	    throw new WaitException("Timed out after '" + timeout + "' milliseconds waiting for value of '" + webElement + "'");
+	}
+    }
+
+    /**
+     * Wait for a window which is not among existing ones. Once it is found,
+     * current handles are saved as the new snapshot, see
+     * {@link #captureWindowHandles()}
      *
      * @param existingHandles TODO
      * @param timeout TODO
@@ -113,20 +571,22 @@ public class WebExtension {
      * @throws ru.sbtqa.tag.pagefactory.exceptions.WaitException TODO
      */
     public static String findNewWindowHandle(Set<String> existingHandles, int timeout) throws WaitException {
-	long timeoutTime = System.currentTimeMillis() + timeout;
-
-	while (timeoutTime > System.currentTimeMillis()) {
+	String newHandle = Poller.poll("new window", timeout, () -> {
 	    Set<String> currentHandles = PageFactory.getWebDriver().getWindowHandles();
 
 	    if (currentHandles.size() != existingHandles.size()
 		  || (currentHandles.size() == existingHandles.size() && !currentHandles.equals(existingHandles))) {
 		for (String currentHandle : currentHandles) {
 		    if (!existingHandles.contains(currentHandle)) {
+			rememberWindowHandles(currentHandles);
 			return currentHandle;
 		    }
 		}
 	    }
-	    sleep(1);
+	    return null;
+	});
+	if (newHandle != null) {
+	    return newHandle;
 	}
 
 	throw new WaitException("Timed out after '" + timeout + "' milliseconds waiting for new modal window");
@@ -142,6 +602,62 @@ public class WebExtension {
 	return findNewWindowHandle(existingHandles, PageFactory.getTimeOut());
     }
 
+    /**
+     * Fill elements with values by one script call. Value is set through the
+     * native value setter, so frameworks tracking input value get it, then
+     * input and change events are fired. Checkboxes, radio buttons, file
+     * inputs, disabled and read only elements are not filled
+     *
+     * @param webElements elements to fill
+     * @param values values in the order of elements
+     * @return whether each element was filled, in the order of elements
+     */
+    public static List<Boolean> fillFields(List<WebElement> webElements, List<String> values) {
+	List<?> result = (List<?>) ((JavascriptExecutor) PageFactory.getWebDriver()).executeScript(FILL_FIELDS_SCRIPT, webElements, values);
+	List<Boolean> filled = new ArrayList<>(webElements.size());
+	for (int i = 0; i < webElements.size(); i++) {
+	    filled.add(Boolean.TRUE.equals(result.get(i)));
+	}
+	return filled;
+    }
+
+    /**
+     * Get tag name, value and title attributes and rendered text of the
+     * elements by one script call
+     *
+     * @param webElements elements to read
+     * @return maps with {@code tag}, {@code value}, {@code title} and
+     * {@code text} keys in the order of elements. Absent attributes are null
+     */
+    public static List<Map<String, String>> getElementValues(List<WebElement> webElements) {
+	List<?> result = (List<?>) ((JavascriptExecutor) PageFactory.getWebDriver()).executeScript(ELEMENT_VALUES_SCRIPT, webElements);
+	List<Map<String, String>> values = new ArrayList<>(result.size());
+	for (Object element : result) {
+	    Map<String, String> elementValues = new HashMap<>();
+	    for (Map.Entry<?, ?> entry : ((Map<?, ?>) element).entrySet()) {
+		elementValues.put(String.valueOf(entry.getKey()), entry.getValue() == null ? null : String.valueOf(entry.getValue()));
+	    }
+	    values.add(elementValues);
+	}
+	return values;
+    }
+
+    /**
+     * Select option of the select element by text in one script call. Spaces
+     * are being ignored. Input and change events are fired if selection was
+     * changed
+     *
+     * @param webElement select element
+     * @param option option text
+     * @param contains true if option text should contain given text, false if
+     * it should be equal
+     * @return text of the selected option, or null if there is no matching
+     * option
+     */
+    public static String selectOptionByText(WebElement webElement, String option, boolean contains) {
+	return (String) ((JavascriptExecutor) PageFactory.getWebDriver()).executeScript(SELECT_OPTION_SCRIPT, webElement, option, contains);
+    }
+
     /**
      * Turn on element highlight
      *
@@ -149,17 +665,51 @@ public class WebExtension {
      * @return initial element style
      */
     public static String highlightElementOn(WebElement webElement) {
+	return prepareClick(webElement, true, false);
+    }
+
+    /**
+     * Prepare element to be clicked by one script call: highlight it and, if
+     * element is close to the bottom of the window, scroll to it
+     *
+     * @param webElement element to click
+     * @param highlight whether element should be highlighted
+     * @param scroll whether window should be scrolled to the element
+     * @return initial element style if it was highlighted, otherwise null
+     */
+    public static String prepareClick(WebElement webElement, boolean highlight, boolean scroll) {
 	try {
 	    JavascriptExecutor js = (JavascriptExecutor) PageFactory.getWebDriver();
-	    String style = (String) js.executeScript("return arguments[0].style.border", webElement);
-	    js.executeScript("arguments[0].style.border='3px solid red'", webElement);
-	    return style;
+	    return (String) js.executeScript(PREPARE_CLICK_SCRIPT, webElement, highlight, scroll);
 	} catch (Exception e) {
 	    LOG.warn("Something went wrong with element highlight", e);
 	    return null;
 	}
     }
 
+    /**
+     * Save window handles of the current session, so windows opened after
+     * that could be found by {@link #findNewWindowHandle(Set)}
+     *
+     * @return current window handles
+     */
+    public static Set<String> captureWindowHandles() {
+	return rememberWindowHandles(PageFactory.getWebDriver().getWindowHandles());
+    }
+
+    /**
+     * Save window handles which were already read, so saved handles are kept
+     * up to date without an extra round trip
+     *
+     * @param handles current window handles
+     * @return saved window handles
+     */
+    public static Set<String> rememberWindowHandles(Collection<String> handles) {
+	Set<String> saved = new HashSet<>(handles);
+	SessionContext.getCurrent().setWindowHandles(saved);
+	return saved;
+    }
+
     /**
      * Turn off element highlight
      *
@@ -177,17 +727,4 @@ public class WebExtension {
 	    LOG.debug("Something went wrong with element highlight", e);
 	}
     }
-
-    /**
-     *
-     * @param sec a int.
-     */
-    private static void sleep(int sec) {
-	try {
-	    Thread.sleep(sec * 1000L);
-	} catch (InterruptedException e) {
-	    LOG.warn("Error while thread is sleeping", e);
-	    Thread.currentThread().interrupt();
-	}
-    }
 }
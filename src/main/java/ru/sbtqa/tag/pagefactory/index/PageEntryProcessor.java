@@ -0,0 +1,124 @@
+package ru.sbtqa.tag.pagefactory.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import ru.sbtqa.tag.pagefactory.annotations.PageEntry;
+
+/**
+ * Annotation processor that collects all {@link PageEntry} annotated classes
+ * of the compiled module and writes {@link PageIndex#LOCATION} index, so page
+ * objects could be found by title without scanning the classpath at runtime.
+ * <p>
+ * Processor is registered via META-INF/services, so it is picked up by javac
+ * automatically when page-factory is on the compile classpath
+ */
+@SupportedAnnotationTypes("ru.sbtqa.tag.pagefactory.annotations.PageEntry")
+public class PageEntryProcessor extends AbstractProcessor {
+
+    private final Map<String, String> titlesByClass = new HashMap<>();
+    private boolean isPreviousIndexLoaded = false;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!isPreviousIndexLoaded) {
+            loadPreviousIndex();
+            isPreviousIndexLoaded = true;
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(PageEntry.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                        "PageEntry is applicable to page classes only", element);
+                continue;
+            }
+            TypeElement page = (TypeElement) element;
+            titlesByClass.put(processingEnv.getElementUtils().getBinaryName(page).toString(),
+                    page.getAnnotation(PageEntry.class).title());
+        }
+
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    /**
+     * Incremental compilation passes only changed sources to the processor,
+     * so entries of the previously written index are kept as long as their
+     * classes still exist and are still annotated
+     */
+    private void loadPreviousIndex() {
+        Properties previous = new Properties();
+        try {
+            FileObject resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", PageIndex.LOCATION);
+            try (InputStream stream = resource.openInputStream()) {
+                previous.load(stream);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // There is no index from the previous build, nothing to merge
+            return;
+        }
+
+        for (String classNames : previous.stringPropertyNames()) {
+            for (String className : previous.getProperty(classNames).split(PageIndex.CLASS_DELIMITER)) {
+                TypeElement page = processingEnv.getElementUtils().getTypeElement(className.replace('$', '.'));
+                if (page != null && page.getAnnotation(PageEntry.class) != null) {
+                    titlesByClass.put(className, page.getAnnotation(PageEntry.class).title());
+                }
+            }
+        }
+    }
+
+    private void writeIndex() {
+        if (titlesByClass.isEmpty()) {
+            return;
+        }
+
+        Map<String, Set<String>> classesByTitle = new TreeMap<>();
+        for (Map.Entry<String, String> entry : titlesByClass.entrySet()) {
+            Set<String> classes = classesByTitle.get(entry.getValue());
+            if (classes == null) {
+                classes = new TreeSet<>();
+                classesByTitle.put(entry.getValue(), classes);
+            }
+            classes.add(entry.getKey());
+        }
+
+        Properties index = new Properties();
+        for (Map.Entry<String, Set<String>> entry : classesByTitle.entrySet()) {
+            index.setProperty(entry.getKey(), String.join(PageIndex.CLASS_DELIMITER, entry.getValue()));
+        }
+
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", PageIndex.LOCATION);
+            try (OutputStream stream = resource.openOutputStream()) {
+                index.store(stream, "Generated by " + PageEntryProcessor.class.getName());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Failed to write page index " + PageIndex.LOCATION + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package ru.sbtqa.tag.pagefactory.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Title to page class registry, generated at build time by
+ * {@link PageEntryProcessor}. All index files found on the classpath are
+ * merged, so page objects could be spread over several modules
+ */
+public class PageIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PageIndex.class);
+
+    /**
+     * Classpath location of generated index
+     */
+    public static final String LOCATION = "META-INF/pagefactory/pages.index";
+    static final String CLASS_DELIMITER = ",";
+
+    private static volatile PageIndex instance;
+
+    private final ClassLoader loader;
+    private final Map<String, List<String>> classesByTitle;
+    private final boolean isPresent;
+
+    private PageIndex(ClassLoader loader) {
+        this.loader = loader;
+        Map<String, List<String>> titles = new HashMap<>();
+        boolean isFound = false;
+        try {
+            Enumeration<URL> resources = loader.getResources(LOCATION);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                Properties index = new Properties();
+                try (InputStream stream = resource.openStream()) {
+                    index.load(stream);
+                }
+                for (String title : index.stringPropertyNames()) {
+                    List<String> classes = titles.get(title);
+                    if (classes == null) {
+                        classes = new ArrayList<>();
+                        titles.put(title, classes);
+                    }
+                    Collections.addAll(classes, index.getProperty(title).split(CLASS_DELIMITER));
+                }
+                isFound = true;
+                LOG.debug("Page index is loaded from {}", resource);
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to load page index", e);
+        }
+        this.classesByTitle = titles;
+        this.isPresent = isFound;
+    }
+
+    /**
+     * Get page index of the current context class loader. Index is being
+     * loaded only once
+     *
+     * @return page index
+     */
+    public static PageIndex getInstance() {
+        if (instance == null) {
+            synchronized (PageIndex.class) {
+                if (instance == null) {
+                    instance = new PageIndex(Thread.currentThread().getContextClassLoader());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * @return true if at least one generated index was found on the classpath
+     */
+    public boolean isPresent() {
+        return isPresent;
+    }
+
+    /**
+     * Find page class with given title inside of the package (or its
+     * subpackages)
+     *
+     * @param packageName package to search in
+     * @param title value of {@link ru.sbtqa.tag.pagefactory.annotations.PageEntry#title()}
+     * @return page class or null if there is no such page in index
+     */
+    public Class<?> getPageClass(String packageName, String title) {
+        List<String> classes = classesByTitle.get(title);
+        if (classes == null) {
+            return null;
+        }
+
+        for (String className : classes) {
+            if (className.startsWith(packageName + ".")) {
+                try {
+                    return Class.forName(className, true, loader);
+                } catch (ClassNotFoundException e) {
+                    LOG.warn("Page class {} is present in page index, but couldn't be loaded", className, e);
+                }
+            }
+        }
+        return null;
+    }
+}
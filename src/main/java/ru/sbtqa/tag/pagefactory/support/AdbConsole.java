@@ -1,16 +1,22 @@
 package ru.sbtqa.tag.pagefactory.support;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.util.Arrays;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.sbtqa.tag.pagefactory.drivers.TagMobileDriver;
+import ru.sbtqa.tag.qautils.properties.Props;
 
 public class AdbConsole {
 
     private static final Logger LOG = LoggerFactory.getLogger(AdbConsole.class);
 
+    private static final boolean IS_SHELL_PERSISTENT = Boolean.valueOf(Props.get("adb.shell.persistent", "true"));
+
     private AdbConsole() {
         throw new IllegalAccessError("Utility class");
     }
@@ -20,8 +26,77 @@ public class AdbConsole {
     }
 
     public static boolean execute(String deviceUDID, String command) {
-        ProcessBuilder processBuilder = new ProcessBuilder(new String[]{"adb", "-s", deviceUDID, "shell", command});
+        return executeForResult(deviceUDID, command).isSuccess();
+    }
+
+    /**
+     * Execute command on the device of the current session and get its output
+     *
+     * @param command shell command
+     * @return trimmed output of the command, or null if it failed
+     */
+    public static String executeForOutput(String command) {
+        AdbShell.Result result = executeForResult(TagMobileDriver.getDeviceUDID(), command);
+        return result.isSuccess() ? result.getOutput().trim() : null;
+    }
+
+    /**
+     * Install application on the device through the local adb. Works only if
+     * the device is attached to this host
+     *
+     * @param deviceUDID device udid
+     * @param apk application package file
+     * @return true if application was installed
+     */
+    public static boolean install(String deviceUDID, File apk) {
+        return run(Arrays.asList("adb", "-s", deviceUDID, "install", "-r", apk.getAbsolutePath())).isSuccess();
+    }
+
+    private static AdbShell.Result executeForResult(String deviceUDID, String command) {
         LOG.info("Command '{}' is processing...", command);
+        if (IS_SHELL_PERSISTENT) {
+            return AdbShell.getInstance(deviceUDID).execute(command);
+        }
+        return run(Arrays.asList("adb", "-s", deviceUDID, "shell", command));
+    }
+
+    /**
+     * Execute several commands on the device of the current session. Commands
+     * are pipelined to the persistent shell, see
+     * {@link AdbShell#executeBatch(List)}
+     *
+     * @param commands shell commands
+     * @return true if all commands succeeded
+     */
+    public static boolean execute(List<String> commands) {
+        return execute(TagMobileDriver.getDeviceUDID(), commands);
+    }
+
+    /**
+     * Execute several commands on the device. Commands are pipelined to the
+     * persistent shell, see {@link AdbShell#executeBatch(List)}
+     *
+     * @param deviceUDID device udid
+     * @param commands shell commands
+     * @return true if all commands succeeded
+     */
+    public static boolean execute(String deviceUDID, List<String> commands) {
+        boolean isSucceeded = true;
+        if (IS_SHELL_PERSISTENT) {
+            LOG.info("Commands {} are processing...", commands);
+            for (AdbShell.Result result : AdbShell.getInstance(deviceUDID).executeBatch(commands)) {
+                isSucceeded &= result.isSuccess();
+            }
+        } else {
+            for (String command : commands) {
+                isSucceeded &= execute(deviceUDID, command);
+            }
+        }
+        return isSucceeded;
+    }
+
+    private static AdbShell.Result run(List<String> command) {
+        ProcessBuilder processBuilder = new ProcessBuilder(command);
         try {
             Process process = processBuilder.start();
 
@@ -35,11 +110,11 @@ public class AdbConsole {
             }
             LOG.debug(builder.toString());
 
-            return process.waitFor() == 0;
+            return new AdbShell.Result(process.waitFor(), builder.toString());
         } catch (IOException | InterruptedException ex) {
             LOG.error("Failed to process command '{}'", command, ex);
         }
 
-        return false;
+        return new AdbShell.Result(AdbShell.Result.NOT_COMPLETED, "");
     }
 }
@@ -0,0 +1,306 @@
+package ru.sbtqa.tag.pagefactory.support;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.sbtqa.tag.qautils.properties.Props;
+
+/**
+ * Long-lived {@code adb -s <udid> shell} session of a device. Commands are
+ * written to the shell stdin, each in its own quoted {@code sh -c} so a syntax
+ * error stays inside the command, followed by an echo of a sentinel with the
+ * command number and exit code, so a reader thread could split the output
+ * stream into results. Commands could be pipelined: a batch is written at
+ * once and results are collected afterwards. Shell is being restarted if it
+ * exits, e.g. when device disconnects, or if a command times out
+ */
+public class AdbShell {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdbShell.class);
+
+    private static final long TIMEOUT = Long.parseLong(Props.get("adb.shell.timeout", "10000"));
+    private static final String SENTINEL = "__PAGE_FACTORY_END__";
+    private static final Pattern SENTINEL_LINE = Pattern.compile(SENTINEL + " (\\d+) (-?\\d+)\\s*$");
+
+    private static final Map<String, AdbShell> SHELLS = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(AdbShell::closeAll, "adb-shell-shutdown"));
+    }
+
+    private final String deviceUDID;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private Process process;
+    private Writer stdin;
+    private Deque<Pending> pending;
+
+    private AdbShell(String deviceUDID) {
+        this.deviceUDID = deviceUDID;
+    }
+
+    /**
+     * Get shell session of the device. Session is being started on the first
+     * command
+     *
+     * @param deviceUDID device udid
+     * @return shell session
+     */
+    public static AdbShell getInstance(String deviceUDID) {
+        AdbShell shell = SHELLS.get(deviceUDID);
+        if (shell == null) {
+            shell = SHELLS.computeIfAbsent(deviceUDID, AdbShell::new);
+        }
+        return shell;
+    }
+
+    /**
+     * Stop all shell sessions
+     */
+    public static void closeAll() {
+        for (AdbShell shell : SHELLS.values()) {
+            shell.stop();
+        }
+    }
+
+    /**
+     * Quote argument for the device shell, so it is passed as a single word
+     * as is
+     *
+     * @param argument argument to quote
+     * @return argument in single quotes
+     */
+    public static String quote(String argument) {
+        return "'" + argument.replace("'", "'\\''") + "'";
+    }
+
+    /**
+     * Execute command and wait for its result
+     *
+     * @param command shell command
+     * @return command result
+     */
+    public Result execute(String command) {
+        return executeBatch(Collections.singletonList(command)).get(0);
+    }
+
+    /**
+     * Write all commands to the shell at once, then wait for their results.
+     * Commands are being executed one after another in the given order
+     *
+     * @param commands shell commands
+     * @return results in the order of commands. Commands not completed
+     * within {@code adb.shell.timeout} milliseconds per command have
+     * {@link Result#NOT_COMPLETED} exit code
+     */
+    public List<Result> executeBatch(List<String> commands) {
+        List<CompletableFuture<Result>> futures = submit(commands);
+        List<Result> results = new ArrayList<>(commands.size());
+        long deadline = System.currentTimeMillis() + TIMEOUT * commands.size();
+        boolean isTimedOut = false;
+        for (int i = 0; i < futures.size(); i++) {
+            Result result;
+            try {
+                result = futures.get(i).get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                LOG.warn("Command '{}' timed out on device {}", commands.get(i), deviceUDID);
+                isTimedOut = true;
+                result = new Result(Result.NOT_COMPLETED, "");
+            } catch (ExecutionException e) {
+                LOG.warn("Command '{}' failed on device {}", commands.get(i), deviceUDID, e.getCause());
+                result = new Result(Result.NOT_COMPLETED, "");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result = new Result(Result.NOT_COMPLETED, "");
+            }
+            LOG.debug("Command '{}' exited with {}: {}", commands.get(i), result.getExitCode(), result.getOutput());
+            results.add(result);
+        }
+        if (isTimedOut) {
+            stop();
+        }
+        return results;
+    }
+
+    private synchronized List<CompletableFuture<Result>> submit(List<String> commands) {
+        StringBuilder script = new StringBuilder();
+        List<CompletableFuture<Result>> futures = new ArrayList<>(commands.size());
+        List<Pending> submitted = new ArrayList<>(commands.size());
+        for (String command : commands) {
+            Pending next = new Pending(sequence.incrementAndGet());
+            submitted.add(next);
+            futures.add(next.future);
+            script.append("sh -c ").append(quote(command)).append(" </dev/null\n")
+                    .append("echo \"").append(SENTINEL).append(' ').append(next.id).append(" $?\"\n");
+        }
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                ensureStarted();
+                pending.addAll(submitted);
+                stdin.write(script.toString());
+                stdin.flush();
+                return futures;
+            } catch (IOException e) {
+                LOG.warn("Failed to write to adb shell of device {}. Restarting it", deviceUDID, e);
+                if (pending != null) {
+                    pending.removeAll(submitted);
+                }
+                stop();
+            }
+        }
+        for (Pending failed : submitted) {
+            failed.future.completeExceptionally(new IOException("adb shell of device " + deviceUDID + " is not available"));
+        }
+        return futures;
+    }
+
+    private void ensureStarted() throws IOException {
+        if (process != null && process.isAlive()) {
+            return;
+        }
+        LOG.info("Starting adb shell of device {}", deviceUDID);
+        process = new ProcessBuilder("adb", "-s", deviceUDID, "shell").redirectErrorStream(true).start();
+        stdin = new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8);
+        pending = new ConcurrentLinkedDeque<>();
+
+        Thread reader = new Thread(new Reader(process, pending), "adb-shell-" + deviceUDID);
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    private synchronized void stop() {
+        if (process != null) {
+            process.destroy();
+            process = null;
+        }
+        if (pending != null) {
+            for (Pending left : pending) {
+                left.future.completeExceptionally(new IOException("adb shell of device " + deviceUDID + " was stopped"));
+            }
+            pending = null;
+        }
+    }
+
+    /**
+     * Reads shell output and completes pending commands in order of their
+     * sentinels. Sentinel is recognized at the end of a line, so output of a
+     * command that does not end with a new line is kept. Fails all pending
+     * commands when the shell exits
+     */
+    private static final class Reader implements Runnable {
+
+        private final Process process;
+        private final Deque<Pending> pending;
+
+        Reader(Process process, Deque<Pending> pending) {
+            this.process = process;
+            this.pending = pending;
+        }
+
+        @Override
+        public void run() {
+            StringBuilder output = new StringBuilder();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    Matcher matcher = SENTINEL_LINE.matcher(line);
+                    if (!matcher.find()) {
+                        output.append(line).append(System.getProperty("line.separator"));
+                        continue;
+                    }
+                    // output not ended with a new line is followed by the sentinel
+                    output.append(line, 0, matcher.start());
+                    long id = Long.parseLong(matcher.group(1));
+                    Pending current;
+                    while ((current = pending.peekFirst()) != null && current.id <= id) {
+                        pending.pollFirst();
+                        if (current.id == id) {
+                            current.future.complete(new Result(Integer.parseInt(matcher.group(2)), output.toString()));
+                        } else {
+                            current.future.completeExceptionally(new IOException("Output of the command is lost"));
+                        }
+                    }
+                    output.setLength(0);
+                }
+            } catch (IOException e) {
+                LOG.debug("adb shell output is closed", e);
+            }
+            LOG.info("adb shell exited");
+            Pending left;
+            while ((left = pending.pollFirst()) != null) {
+                left.future.completeExceptionally(new IOException("adb shell exited"));
+            }
+        }
+    }
+
+    private static final class Pending {
+
+        private final long id;
+        private final CompletableFuture<Result> future = new CompletableFuture<>();
+
+        Pending(long id) {
+            this.id = id;
+        }
+    }
+
+    /**
+     * Result of a shell command
+     */
+    public static final class Result {
+
+        /**
+         * Exit code of a command that was not completed
+         */
+        public static final int NOT_COMPLETED = -1;
+
+        private final int exitCode;
+        private final String output;
+
+        Result(int exitCode, String output) {
+            this.exitCode = exitCode;
+            this.output = output;
+        }
+
+        /**
+         * @return exit code of the command, {@link #NOT_COMPLETED} if it was not
+         * completed
+         */
+        public int getExitCode() {
+            return exitCode;
+        }
+
+        /**
+         * @return output of the command
+         */
+        public String getOutput() {
+            return output;
+        }
+
+        /**
+         * @return true if command exited with zero code
+         */
+        public boolean isSuccess() {
+            return exitCode == 0;
+        }
+    }
+}
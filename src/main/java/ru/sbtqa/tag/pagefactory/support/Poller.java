@@ -0,0 +1,179 @@
+package ru.sbtqa.tag.pagefactory.support;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.sbtqa.tag.qautils.properties.Props;
+
+/**
+ * Shared polling engine of the explicit waits. Condition is probed
+ * immediately, then with an interval growing from {@code wait.poll.interval}
+ * to {@code wait.poll.max.interval} milliseconds by
+ * {@code wait.poll.factor}. Statistics is being collected per condition name
+ */
+public class Poller {
+
+    private static final Logger LOG = LoggerFactory.getLogger(Poller.class);
+
+    private static final long POLL_INTERVAL = Long.parseLong(Props.get("wait.poll.interval", "50"));
+    private static final long MAX_POLL_INTERVAL = Long.parseLong(Props.get("wait.poll.max.interval", "1000"));
+    private static final double POLL_FACTOR = Double.parseDouble(Props.get("wait.poll.factor", "1.5"));
+
+    private static final Map<String, Statistics> STATISTICS = new ConcurrentHashMap<>();
+
+    private Poller() {
+    }
+
+    /**
+     * Condition to wait for
+     *
+     * @param <T> type of the probe result
+     */
+    public interface Probe<T> {
+
+        /**
+         * @return result of the condition, null or {@link Boolean#FALSE} if
+         * condition is not satisfied yet
+         */
+        T probe();
+    }
+
+    /**
+     * Probe condition until it is satisfied or timeout is over
+     *
+     * @param <T> type of the probe result
+     * @param name condition name used for statistics and logging
+     * @param timeout timeout in milliseconds
+     * @param probe condition to wait for
+     * @return result of the satisfied probe, or null if timeout is over
+     */
+    public static <T> T poll(String name, long timeout, Probe<T> probe) {
+        long start = System.currentTimeMillis();
+        long deadline = start + timeout;
+        long interval = POLL_INTERVAL;
+        int probes = 0;
+        T result = null;
+        while (true) {
+            probes++;
+            T current = probe.probe();
+            if (current != null && !Boolean.FALSE.equals(current)) {
+                result = current;
+                break;
+            }
+
+            long now = System.currentTimeMillis();
+            if (now >= deadline) {
+                break;
+            }
+            try {
+                Thread.sleep(Math.min(interval, deadline - now));
+            } catch (InterruptedException e) {
+                LOG.warn("Interrupted while waiting for {}", name, e);
+                Thread.currentThread().interrupt();
+                break;
+            }
+            interval = Math.min((long) (interval * POLL_FACTOR), MAX_POLL_INTERVAL);
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        getStatistics(name).record(result != null, probes, elapsed);
+        LOG.debug("Waiting for {} {} after {} probes in {} ms", name, result != null ? "succeeded" : "timed out", probes, elapsed);
+        return result;
+    }
+
+    /**
+     * Probe boolean condition until it is true or timeout is over
+     *
+     * @param name condition name used for statistics and logging
+     * @param timeout timeout in milliseconds
+     * @param probe condition to wait for
+     * @return true if condition was satisfied
+     */
+    public static boolean until(String name, long timeout, Probe<Boolean> probe) {
+        return poll(name, timeout, probe) != null;
+    }
+
+    /**
+     * @return read-only view of statistics mapped to condition names
+     */
+    public static Map<String, Statistics> getStatistics() {
+        return Collections.unmodifiableMap(STATISTICS);
+    }
+
+    private static Statistics getStatistics(String name) {
+        Statistics statistics = STATISTICS.get(name);
+        if (statistics == null) {
+            statistics = STATISTICS.computeIfAbsent(name, key -> new Statistics());
+        }
+        return statistics;
+    }
+
+    /**
+     * Wait statistics of a single condition
+     */
+    public static class Statistics {
+
+        private final AtomicLong waits = new AtomicLong();
+        private final AtomicLong timeouts = new AtomicLong();
+        private final AtomicLong probes = new AtomicLong();
+        private final AtomicLong totalTime = new AtomicLong();
+        private final AtomicLong maxTime = new AtomicLong();
+
+        private void record(boolean succeeded, int probeCount, long elapsed) {
+            waits.incrementAndGet();
+            if (!succeeded) {
+                timeouts.incrementAndGet();
+            }
+            probes.addAndGet(probeCount);
+            totalTime.addAndGet(elapsed);
+            long max;
+            do {
+                max = maxTime.get();
+            } while (elapsed > max && !maxTime.compareAndSet(max, elapsed));
+        }
+
+        /**
+         * @return number of waits
+         */
+        public long getWaits() {
+            return waits.get();
+        }
+
+        /**
+         * @return number of timed out waits
+         */
+        public long getTimeouts() {
+            return timeouts.get();
+        }
+
+        /**
+         * @return total number of probes
+         */
+        public long getProbes() {
+            return probes.get();
+        }
+
+        /**
+         * @return total wait time in milliseconds
+         */
+        public long getTotalTime() {
+            return totalTime.get();
+        }
+
+        /**
+         * @return longest wait in milliseconds
+         */
+        public long getMaxTime() {
+            return maxTime.get();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("waits=%d, timeouts=%d, probes=%d, total=%dms, max=%dms",
+                    getWaits(), getTimeouts(), getProbes(), getTotalTime(), getMaxTime());
+        }
+    }
+}
@@ -5,16 +5,16 @@ import ru.sbtqa.tag.datajack.adaptors.ExcelDataObjectAdaptor;
 import ru.sbtqa.tag.datajack.adaptors.json.JsonDataObjectAdaptor;
 import ru.sbtqa.tag.datajack.adaptors.properties.PropertiesDataObjectAdaptor;
 import ru.sbtqa.tag.datajack.exceptions.DataException;
+import ru.sbtqa.tag.pagefactory.SessionContext;
 import ru.sbtqa.tag.qautils.properties.Props;
 
 public class DataProvider {
 
-    private static TestDataObject dataContainer;
-    private static String configCollection;
-
     public static TestDataObject getInstance() throws DataException {
+        SessionContext context = SessionContext.getCurrent();
+        TestDataObject dataContainer = context.getDataContainer();
         if (dataContainer == null) {
-            configCollection = Props.get("data.initial.collection", null);
+            context.setConfigCollection(Props.get("data.initial.collection", null));
             String dataType = Props.get("data.type", "stash");
 
             switch (dataType) {
@@ -41,16 +41,17 @@ public class DataProvider {
                 default:
                     throw new DataException(String.format("Data adaptor %s isn't supported", dataType));
             }
+            context.setDataContainer(dataContainer);
         }
         return dataContainer;
     }
 
     public static void updateCollection(TestDataObject newObject) {
-        dataContainer = newObject;
+        SessionContext.getCurrent().setDataContainer(newObject);
     }
 
     public static String getConfigCollection() {
-        return configCollection;
+        return SessionContext.getCurrent().getConfigCollection();
     }
 
 }
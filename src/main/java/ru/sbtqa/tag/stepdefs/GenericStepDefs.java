@@ -4,6 +4,7 @@ import cucumber.api.DataTable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 import org.junit.Assert;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
@@ -15,6 +16,7 @@ import ru.sbtqa.tag.pagefactory.exceptions.PageException;
 import ru.sbtqa.tag.pagefactory.exceptions.PageInitializationException;
 import ru.sbtqa.tag.pagefactory.exceptions.SwipeException;
 import ru.sbtqa.tag.pagefactory.extensions.MobileExtension;
+import ru.sbtqa.tag.pagefactory.extensions.WebExtension;
 import ru.sbtqa.tag.pagefactory.support.Environment;
 import ru.sbtqa.tag.qautils.errors.AutotestError;
 import ru.sbtqa.tag.qautils.i18n.I18N;
@@ -205,11 +207,12 @@ public class GenericStepDefs extends SetupSteps {
      * @throws PageInitializationException if page initialization failed
      */
     public void openPage(String title) throws PageInitializationException {
-        if (PageFactory.getEnvironment() != Environment.MOBILE
-                && !PageFactory.getWebDriver().getWindowHandles().isEmpty()) {
-            for (String windowHandle : PageFactory.getWebDriver().getWindowHandles()) {
+        if (PageFactory.getEnvironment() != Environment.MOBILE) {
+            Set<String> windowHandles = PageFactory.getWebDriver().getWindowHandles();
+            for (String windowHandle : windowHandles) {
                 PageFactory.getWebDriver().switchTo().window(windowHandle);
             }
+            WebExtension.rememberWindowHandles(windowHandles);
         }
         PageFactory.getInstance().getPage(title);
     }
@@ -312,6 +315,7 @@ public class GenericStepDefs extends SetupSteps {
         String pageUrl = PageFactory.getWebDriver().getCurrentUrl();
         ((JavascriptExecutor) PageFactory.getWebDriver()).executeScript("window.open('" + pageUrl + "', '_blank')");
         List<String> tabs = new ArrayList<>(PageFactory.getWebDriver().getWindowHandles());
+        WebExtension.rememberWindowHandles(tabs);
         PageFactory.getWebDriver().switchTo().window(tabs.get(tabs.size() - 1));
     }
 
@@ -321,6 +325,7 @@ public class GenericStepDefs extends SetupSteps {
     public void switchesToNextTab() {
         String currentTab = PageFactory.getWebDriver().getWindowHandle();
         List<String> tabs = new ArrayList<>(PageFactory.getWebDriver().getWindowHandles());
+        WebExtension.rememberWindowHandles(tabs);
         for (int i = 0; i < tabs.size(); i++) {
             if (tabs.get(i).equals(currentTab)) {
                 PageFactory.getWebDriver().switchTo().window(tabs.get(i + 1));
@@ -345,7 +350,9 @@ public class GenericStepDefs extends SetupSteps {
      */
     public void closingCurrentWin(String title) {
         PageFactory.getWebDriver().close();
-        for (String windowHandle : PageFactory.getWebDriver().getWindowHandles()) {
+        Set<String> windowHandles = PageFactory.getWebDriver().getWindowHandles();
+        WebExtension.rememberWindowHandles(windowHandles);
+        for (String windowHandle : windowHandles) {
             PageFactory.getWebDriver().switchTo().window(windowHandle);
             if (PageFactory.getWebDriver().getTitle().equals(title)) {
                 return;
@@ -3,34 +3,21 @@ package ru.sbtqa.tag.stepdefs;
 import cucumber.api.Scenario;
 import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.Field;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
 import org.apache.commons.lang3.SystemUtils;
 import org.apache.log4j.PropertyConfigurator;
-import org.openqa.selenium.WebElement;
-import org.reflections.Reflections;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.sbtqa.tag.allurehelper.ParamsHelper;
 import ru.sbtqa.tag.allurehelper.Type;
-import ru.sbtqa.tag.pagefactory.Page;
 import ru.sbtqa.tag.pagefactory.PageFactory;
 import ru.sbtqa.tag.pagefactory.ScenarioContext;
-import ru.sbtqa.tag.pagefactory.annotations.ElementTitle;
+import ru.sbtqa.tag.pagefactory.descriptor.PageRegistry;
 import ru.sbtqa.tag.pagefactory.drivers.TagWebDriver;
-import ru.sbtqa.tag.pagefactory.exceptions.FactoryRuntimeException;
+import ru.sbtqa.tag.pagefactory.drivers.WebDriverPool;
 import ru.sbtqa.tag.pagefactory.support.Environment;
 import ru.sbtqa.tag.pagefactory.support.ScreenShooter;
 import ru.sbtqa.tag.qautils.properties.Props;
-import ru.sbtqa.tag.qautils.reflect.ClassUtilsExt;
-import ru.sbtqa.tag.qautils.reflect.FieldUtilsExt;
 import ru.sbtqa.tag.videorecorder.VideoRecorder;
-import ru.yandex.qatools.htmlelements.element.HtmlElement;
 
 public class SetupSteps {
 
@@ -85,44 +72,11 @@ public class SetupSteps {
             PageFactory.setAspectsDisabled(Boolean.parseBoolean(aspectDisabled));
         }
 
-        Reflections reflections;
-        reflections = new Reflections(PageFactory.getPagesPackage());
+        PageRegistry.registerPackage(PageFactory.getPagesPackage());
+        PageRegistry.registerLocale(ScenarioContext.getLocale());
 
-        Collection<String> allClassesString = reflections.getStore().get("SubTypesScanner").values();
-        Set<Class<?>> allClasses = new HashSet<>();
-        for (String clazz : allClassesString) {
-            try {
-                allClasses.add(Class.forName(clazz));
-            } catch (ClassNotFoundException e) {
-                LOG.warn("Cannot add all classes to set from package storage", e);
-            }
-        }
-
-        for (Class<?> page : allClasses) {
-            List<Class> supers = ClassUtilsExt.getSuperclassesWithInheritance(page);
-            if (!supers.contains(Page.class) && !supers.contains(HtmlElement.class)) {
-                if (page.getName().contains("$")) {
-                    continue; //We allow private additional classes but skip it if its not extends Page
-                } else {
-                    throw new FactoryRuntimeException("Class " + page.getName() + " is not extended from Page class. Check you webdriver.pages.package property.");
-                }
-            }
-            List<Field> fields = FieldUtilsExt.getDeclaredFieldsWithInheritance(page);
-            Map<Field, String> fieldsMap = new HashMap<>();
-            for (Field field : fields) {
-                Class<?> fieldType = field.getType();
-                if (fieldType.equals(WebElement.class)) {
-
-                    ElementTitle titleAnnotation = field.getAnnotation(ElementTitle.class);
-                    if (titleAnnotation != null) {
-                        fieldsMap.put(field, titleAnnotation.value());
-                    } else {
-                        fieldsMap.put(field, field.getName());
-                    }
-                }
-            }
-
-            PageFactory.getPageRepository().put((Class<? extends Page>) page, fieldsMap);
+        if (PageFactory.getEnvironment() == Environment.WEB && WebDriverPool.isEnabled()) {
+            WebDriverPool.getInstance();
         }
 
         if (PageFactory.isVideoRecorderEnabled()) {